@@ -21,6 +21,7 @@ import android.graphics.Point;
 import android.hardware.display.DisplayManager;
 import android.hardware.display.VirtualDisplay;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.car.app.AppManager;
 import androidx.car.app.CarContext;
 import androidx.car.app.Screen;
@@ -28,6 +29,7 @@ import androidx.car.app.SurfaceCallback;
 import androidx.car.app.SurfaceContainer;
 import androidx.car.app.model.Action;
 import androidx.car.app.model.ActionStrip;
+import androidx.car.app.model.CarIcon;
 import androidx.car.app.model.Template;
 import androidx.car.app.navigation.model.NavigationTemplate;
 import androidx.lifecycle.DefaultLifecycleObserver;
@@ -39,8 +41,11 @@ import com.facebook.react.bridge.ReadableMap;
 import com.google.android.gms.maps.CameraUpdate;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.NavigationViewForAuto;
 import com.google.android.libraries.navigation.StylingOptions;
+import java.util.Objects;
 
 // This class streamlines the Android Auto setup process by managing initialization, teardown, and
 // map rendering on the Android Auto display. You can create your own Screen class by extending this
@@ -65,6 +70,10 @@ public abstract class AndroidAutoBaseScreen extends Screen
   private boolean mNavModuleInitialized = false;
   private final AndroidAutoBaseScreen screenInstance = this;
 
+  @Nullable private String mLastRenderingKey;
+  private long mAppliedNavInfoUpdateCount = 0;
+  private long mSuppressedNavInfoUpdateCount = 0;
+
   @Override
   public void setStylingOptions(StylingOptions stylingOptions) {
     // TODO(jokerttu): set styling to the navigationView
@@ -158,7 +167,7 @@ public abstract class AndroidAutoBaseScreen extends Screen
         (GoogleMap googleMap) -> {
           mGoogleMap = googleMap;
           mMapViewController = new MapViewController();
-          mMapViewController.initialize(googleMap, () -> null);
+          mMapViewController.initialize(googleMap);
           registerControllersForAndroidAutoModule();
           invalidate();
         });
@@ -194,6 +203,76 @@ public abstract class AndroidAutoBaseScreen extends Screen
     mGoogleMap.animateCamera(update); // map is set in onSurfaceAvailable.
   }
 
+  /**
+   * Returns whether the update changes what the navigation template shows, comparing its rendering
+   * key with the one of the last applied update. Car hosts rate limit template refreshes, so
+   * subclasses should only rebuild their routing info and call {@link #invalidate()} when this
+   * returns true. A null update resets the comparison.
+   */
+  protected boolean hasNavInfoChanged(@Nullable NavInfo navInfo) {
+    if (navInfo == null) {
+      mLastRenderingKey = null;
+      return true;
+    }
+    String renderingKey = getRenderingKey(navInfo);
+    if (Objects.equals(renderingKey, mLastRenderingKey)) {
+      mSuppressedNavInfoUpdateCount++;
+      return false;
+    }
+    mLastRenderingKey = renderingKey;
+    mAppliedNavInfoUpdateCount++;
+    return true;
+  }
+
+  /**
+   * Returns the parts of the update that the template shows: the current step number, maneuver
+   * and cue, and the distance to the step rounded as it is displayed. Override it to render other
+   * fields.
+   */
+  protected String getRenderingKey(NavInfo navInfo) {
+    StepInfo step = navInfo.getCurrentStep();
+    Integer distanceMeters = navInfo.getDistanceToCurrentStepMeters();
+    return navInfo.getNavState()
+        + "|"
+        + (step != null ? step.getStepNumber() : -1)
+        + "|"
+        + (step != null ? step.getManeuver() : -1)
+        + "|"
+        + (step != null ? step.getFullInstructionText() : null)
+        + "|"
+        + (distanceMeters != null ? getDistanceBucket(distanceMeters) : -1);
+  }
+
+  /** Rounds the distance to 10 m below 100 m, to 50 m below 1 km and to 100 m above. */
+  protected int getDistanceBucket(int distanceMeters) {
+    if (distanceMeters < 100) {
+      return distanceMeters / 10 * 10;
+    }
+    if (distanceMeters < 1000) {
+      return distanceMeters / 50 * 50;
+    }
+    return distanceMeters / 100 * 100;
+  }
+
+  /** Number of updates that changed the rendering key, see {@link #hasNavInfoChanged}. */
+  public long getAppliedNavInfoUpdateCount() {
+    return mAppliedNavInfoUpdateCount;
+  }
+
+  /** Number of updates skipped because the rendering key was unchanged. */
+  public long getSuppressedNavInfoUpdateCount() {
+    return mSuppressedNavInfoUpdateCount;
+  }
+
+  /**
+   * Returns the icon of the step's maneuver from {@link ManeuverIconCache}, so the icon is built
+   * once per maneuver instead of on every update. Returns null if the step has no maneuver bitmap.
+   */
+  @Nullable
+  protected CarIcon getManeuverIcon(StepInfo stepInfo) {
+    return ManeuverIconCache.getInstance().getCarIcon(stepInfo);
+  }
+
   protected void sendCustomEvent(String type, ReadableMap data) {
     NavAutoModule.getInstance().onCustomNavigationAutoEvent(type, data);
   }
@@ -0,0 +1,68 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.util.LruCache;
+import com.google.android.gms.maps.model.BitmapDescriptor;
+import com.google.android.gms.maps.model.BitmapDescriptorFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Process wide LRU cache of marker and ground overlay icons, shared by every map controller
+ * including the Android Auto one. Icons are keyed by asset path, so overlays sharing an icon reuse
+ * a single descriptor instead of loading the asset again.
+ */
+public final class BitmapDescriptorCache {
+  private static final int DEFAULT_MAX_SIZE = 128;
+  private static final String ASSET_KEY_PREFIX = "asset:";
+
+  private static BitmapDescriptorCache instance;
+
+  private final LruCache<String, BitmapDescriptor> cache = new LruCache<>(DEFAULT_MAX_SIZE);
+
+  private BitmapDescriptorCache() {}
+
+  public static synchronized BitmapDescriptorCache getInstance() {
+    if (instance == null) {
+      instance = new BitmapDescriptorCache();
+    }
+    return instance;
+  }
+
+  /** Returns the descriptor for the given asset, loading it on first use. */
+  public BitmapDescriptor fromAsset(String assetPath) {
+    String key = ASSET_KEY_PREFIX + assetPath;
+    BitmapDescriptor descriptor = cache.get(key);
+    if (descriptor == null) {
+      descriptor = BitmapDescriptorFactory.fromAsset(assetPath);
+      cache.put(key, descriptor);
+    }
+    return descriptor;
+  }
+
+  public void clear() {
+    cache.evictAll();
+  }
+
+  public Map<String, Object> getStats() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("hitCount", cache.hitCount());
+    map.put("missCount", cache.missCount());
+    map.put("evictionCount", cache.evictionCount());
+    map.put("size", cache.size());
+    map.put("maxSize", cache.maxSize());
+    return map;
+  }
+}
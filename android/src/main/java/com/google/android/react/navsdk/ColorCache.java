@@ -0,0 +1,43 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.graphics.Color;
+import android.util.LruCache;
+
+/**
+ * Bounded cache of parsed color strings. Overlays and styling options tend to reuse a handful of
+ * colors, so each distinct string is parsed once instead of on every insert.
+ */
+public final class ColorCache {
+  private static final int MAX_SIZE = 64;
+
+  private static final LruCache<String, Integer> cache = new LruCache<>(MAX_SIZE);
+
+  private ColorCache() {}
+
+  /**
+   * Returns the color int for the string, as {@link Color#parseColor} does.
+   *
+   * @throws IllegalArgumentException if the color cannot be parsed.
+   */
+  public static int parseColor(String color) {
+    Integer parsed = cache.get(color);
+    if (parsed == null) {
+      parsed = Color.parseColor(color);
+      cache.put(color, parsed);
+    }
+    return parsed;
+  }
+}
@@ -55,7 +55,27 @@ public enum Command {
   REMOVE_GROUND_OVERLAY(36, "removeGroundOverlay"),
   SET_ZOOM_CONTROLS_ENABLED(37, "setZoomControlsEnabled"),
   SET_RECENTER_BUTTON_ENABLED(38, "setRecenterButtonEnabled"),
-  SET_PADDING(39, "setPadding");
+  SET_PADDING(39, "setPadding"),
+  REMOVE_LAYER(40, "removeLayer"),
+  SET_MARKER_CLUSTERING_OPTIONS(41, "setMarkerClusteringOptions"),
+  SET_OVERLAY_VIRTUALIZATION_OPTIONS(42, "setOverlayVirtualizationOptions"),
+  EXECUTE_COMMANDS(43, "executeCommands"),
+  SET_UI_SETTINGS(44, "setUiSettings"),
+  UPDATE_MARKER(45, "updateMarker"),
+  ANIMATE_MARKER_TO(46, "animateMarkerTo");
+
+  private static final Command[] BY_VALUE;
+
+  static {
+    int maxValue = 0;
+    for (Command command : values()) {
+      maxValue = Math.max(maxValue, command.value);
+    }
+    BY_VALUE = new Command[maxValue + 1];
+    for (Command command : values()) {
+      BY_VALUE[command.value] = command;
+    }
+  }
 
   private final int value;
   private final String name;
@@ -75,9 +95,11 @@ public enum Command {
   }
 
   public static Command find(int value) {
-    for (Command i : Command.values()) {
-      if (i.value == value) return i;
-    }
-    return null;
+    return value >= 0 && value < BY_VALUE.length ? BY_VALUE[value] : null;
+  }
+
+  /** Returns the largest command value, for tables indexed by command. */
+  public static int getMaxValue() {
+    return BY_VALUE.length - 1;
   }
 }
@@ -17,6 +17,7 @@ import com.google.android.gms.maps.GoogleMap;
 import com.google.android.gms.maps.GoogleMap.CameraPerspective;
 import com.google.android.libraries.navigation.AlternateRoutesStrategy;
 import com.google.android.libraries.navigation.ForceNightMode;
+import com.google.android.libraries.navigation.NavigationRoadStretchRenderingData;
 import com.google.android.libraries.navigation.Navigator;
 
 public class EnumTranslationUtil {
@@ -98,4 +99,25 @@ public class EnumTranslationUtil {
         return CustomTypes.FragmentType.NAVIGATION;
     }
   }
+
+  public static int getJsValueFromRoadStretchStyle(NavigationRoadStretchRenderingData.Style style) {
+    switch (style) {
+      case SLOWER_TRAFFIC:
+        return 1;
+      case TRAFFIC_JAM:
+        return 2;
+      default:
+        return 0;
+    }
+  }
+
+  public static JsEventQueue.OverflowPolicy getOverflowPolicyFromJsValue(int jsValue) {
+    switch (jsValue) {
+      case 1:
+        return JsEventQueue.OverflowPolicy.COALESCE_BY_TYPE;
+      case 0:
+      default:
+        return JsEventQueue.OverflowPolicy.DROP_OLDEST;
+    }
+  }
 }
@@ -0,0 +1,160 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Weakly held map fragments keyed by the id of the React Native view hosting them. Safe to use
+ * from any thread; entries whose fragment was garbage collected without being removed are purged
+ * on the next access.
+ */
+public class FragmentRegistry {
+  private static final class Entry extends WeakReference<IMapViewFragment> {
+    final int viewId;
+    final CustomTypes.FragmentType type;
+
+    Entry(
+        int viewId,
+        CustomTypes.FragmentType type,
+        IMapViewFragment fragment,
+        ReferenceQueue<IMapViewFragment> queue) {
+      super(fragment, queue);
+      this.viewId = viewId;
+      this.type = type;
+    }
+  }
+
+  private final ConcurrentHashMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+  private final Map<CustomTypes.FragmentType, ConcurrentHashMap<Integer, Entry>> entriesByType =
+      new EnumMap<>(CustomTypes.FragmentType.class);
+  private final ReferenceQueue<IMapViewFragment> queue = new ReferenceQueue<>();
+  private final AtomicLong purgedCount = new AtomicLong();
+
+  public FragmentRegistry() {
+    for (CustomTypes.FragmentType type : CustomTypes.FragmentType.values()) {
+      entriesByType.put(type, new ConcurrentHashMap<>());
+    }
+  }
+
+  public void put(int viewId, CustomTypes.FragmentType type, IMapViewFragment fragment) {
+    purge();
+    Entry entry = new Entry(viewId, type, fragment, queue);
+    Entry previous = entries.put(viewId, entry);
+    if (previous != null) {
+      entriesByType.get(previous.type).remove(viewId, previous);
+    }
+    entriesByType.get(type).put(viewId, entry);
+  }
+
+  @Nullable
+  public IMapViewFragment get(int viewId) {
+    purge();
+    Entry entry = entries.get(viewId);
+    return entry != null ? entry.get() : null;
+  }
+
+  /** Removes and returns the fragment registered for the view, if it is still alive. */
+  @Nullable
+  public IMapViewFragment remove(int viewId) {
+    purge();
+    Entry entry = entries.remove(viewId);
+    if (entry == null) {
+      return null;
+    }
+    entriesByType.get(entry.type).remove(viewId, entry);
+    return entry.get();
+  }
+
+  /** Returns any live fragment of the given type, or null if there is none. */
+  @Nullable
+  public IMapViewFragment getAny(CustomTypes.FragmentType type) {
+    purge();
+    return firstAlive(entriesByType.get(type));
+  }
+
+  /** Returns any live fragment, or null if there is none. */
+  @Nullable
+  public IMapViewFragment getAny() {
+    purge();
+    return firstAlive(entries);
+  }
+
+  /** Returns a snapshot of the live fragments. */
+  public List<IMapViewFragment> getAll() {
+    purge();
+    List<IMapViewFragment> fragments = new ArrayList<>(entries.size());
+    for (Entry entry : entries.values()) {
+      IMapViewFragment fragment = entry.get();
+      if (fragment != null) {
+        fragments.add(fragment);
+      }
+    }
+    return fragments;
+  }
+
+  public int size() {
+    purge();
+    return entries.size();
+  }
+
+  public int size(CustomTypes.FragmentType type) {
+    purge();
+    return entriesByType.get(type).size();
+  }
+
+  /**
+   * Returns the number of registered fragments by type and the number of entries purged because
+   * their fragment was collected without being removed.
+   */
+  public Map<String, Object> getStats() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("mapViewCount", size(CustomTypes.FragmentType.MAP));
+    map.put("navigationViewCount", size(CustomTypes.FragmentType.NAVIGATION));
+    map.put("purgedCount", (double) purgedCount.get());
+    return map;
+  }
+
+  @Nullable
+  private static IMapViewFragment firstAlive(Map<Integer, Entry> map) {
+    for (Entry entry : map.values()) {
+      IMapViewFragment fragment = entry.get();
+      if (fragment != null) {
+        return fragment;
+      }
+    }
+    return null;
+  }
+
+  private void purge() {
+    Reference<? extends IMapViewFragment> reference;
+    while ((reference = queue.poll()) != null) {
+      Entry entry = (Entry) reference;
+      entriesByType.get(entry.type).remove(entry.viewId, entry);
+      if (entries.remove(entry.viewId, entry)) {
+        purgedCount.incrementAndGet();
+      }
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+/**
+ * Immutable latitude/longitude rectangle. Bounds with {@code west > east} cross the antimeridian.
+ */
+public final class GeoBounds {
+  public static final GeoBounds WORLD = new GeoBounds(-90, -180, 90, 180);
+
+  public final double south;
+  public final double west;
+  public final double north;
+  public final double east;
+
+  public GeoBounds(double south, double west, double north, double east) {
+    this.south = south;
+    this.west = west;
+    this.north = north;
+    this.east = east;
+  }
+
+  public boolean crossesAntimeridian() {
+    return west > east;
+  }
+
+  public double getLngSpan() {
+    return crossesAntimeridian() ? east - west + 360 : east - west;
+  }
+
+  public boolean contains(double lat, double lng) {
+    if (lat < south || lat > north) {
+      return false;
+    }
+    if (crossesAntimeridian()) {
+      return lng >= west || lng <= east;
+    }
+    return lng >= west && lng <= east;
+  }
+
+  public boolean intersects(GeoBounds other) {
+    if (other.south > north || other.north < south) {
+      return false;
+    }
+    if (crossesAntimeridian() || other.crossesAntimeridian()) {
+      // Either range may be split at the antimeridian, so compare both halves.
+      for (double[] a : lngRanges()) {
+        for (double[] b : other.lngRanges()) {
+          if (a[0] <= b[1] && b[0] <= a[1]) {
+            return true;
+          }
+        }
+      }
+      return false;
+    }
+    return other.west <= east && other.east >= west;
+  }
+
+  /** Returns these bounds grown on every side by the given fraction of their span. */
+  public GeoBounds expand(double fraction) {
+    double latMargin = (north - south) * fraction;
+    double lngMargin = getLngSpan() * fraction;
+    double newSouth = Math.max(-90, south - latMargin);
+    double newNorth = Math.min(90, north + latMargin);
+    if (getLngSpan() + 2 * lngMargin >= 360) {
+      return new GeoBounds(newSouth, -180, newNorth, 180);
+    }
+    return new GeoBounds(
+        newSouth, wrapLongitude(west - lngMargin), newNorth, wrapLongitude(east + lngMargin));
+  }
+
+  double[][] lngRanges() {
+    if (crossesAntimeridian()) {
+      return new double[][] {{west, 180}, {-180, east}};
+    }
+    return new double[][] {{west, east}};
+  }
+
+  static double wrapLongitude(double lng) {
+    if (lng < -180) {
+      return lng + 360;
+    }
+    if (lng > 180) {
+      return lng - 360;
+    }
+    return lng;
+  }
+}
@@ -21,4 +21,6 @@ public class JsErrors {
   public static final String NO_MAP_ERROR_CODE = "NO_MAP_ERROR_CODE";
   public static final String NO_MAP_ERROR_MESSAGE =
       "Make sure to initialize the map view has been initialized before executing.";
+
+  public static final String INVALID_OVERLAY_ERROR_CODE = "INVALID_OVERLAY_ERROR_CODE";
 }
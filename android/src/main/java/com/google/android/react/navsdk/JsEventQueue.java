@@ -0,0 +1,244 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.NativeArray;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded queue of JS events drained by a dedicated dispatcher thread, so that the SDK threads
+ * firing navigation listeners only enqueue and never wait on the bridge. When the queue is full,
+ * the overflow policy decides which event is lost. Events of replaceable types, whose latest value
+ * supersedes the earlier ones, are lost first; only if none is pending is the oldest event of any
+ * other type dropped, so the queue never holds more than its capacity.
+ */
+public class JsEventQueue {
+  private static final String TAG = "JsEventQueue";
+  public static final int DEFAULT_CAPACITY = 256;
+
+  public enum OverflowPolicy {
+    /** Drops the oldest pending replaceable event, or the oldest pending event if none is. */
+    DROP_OLDEST,
+    /**
+     * Replaces the pending event of the same type if it is replaceable, and otherwise drops as
+     * {@link #DROP_OLDEST} does.
+     */
+    COALESCE_BY_TYPE
+  }
+
+  /** Delivers an event to JS. Called on the dispatcher thread. */
+  public interface Sink {
+    void send(String functionName, NativeArray params);
+  }
+
+  private static final class Event {
+    final String functionName;
+    final NativeArray params;
+    final AtomicBoolean claimed = new AtomicBoolean(false);
+
+    Event(String functionName, NativeArray params) {
+      this.functionName = functionName;
+      this.params = params;
+    }
+  }
+
+  private final Sink sink;
+  private final Set<String> replaceableTypes;
+  private final ConcurrentLinkedQueue<Event> queue = new ConcurrentLinkedQueue<>();
+  // The replaceable events of the queue in the same order, so the oldest one is found at once.
+  // Events claimed by the dispatcher or coalesced stay until they reach the head.
+  private final ConcurrentLinkedQueue<Event> replaceableEvents = new ConcurrentLinkedQueue<>();
+  private final Map<String, Event> pendingByType = new ConcurrentHashMap<>();
+  private final AtomicInteger depth = new AtomicInteger();
+  private final AtomicBoolean drainScheduled = new AtomicBoolean(false);
+  @Nullable private ExecutorService executor;
+
+  private final AtomicLong enqueuedCount = new AtomicLong();
+  private final AtomicLong dispatchedCount = new AtomicLong();
+  private final AtomicLong droppedCount = new AtomicLong();
+  private final AtomicLong coalescedCount = new AtomicLong();
+  private final AtomicInteger maxDepth = new AtomicInteger();
+
+  private volatile int capacity = DEFAULT_CAPACITY;
+  private volatile OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+  /**
+   * @param replaceableTypes the event types that are dropped first and may be coalesced when the
+   *     queue is full. Events of other types, such as one-shot events and deltas, are only dropped
+   *     when no replaceable event is pending.
+   */
+  public JsEventQueue(Sink sink, Set<String> replaceableTypes) {
+    this.sink = sink;
+    this.replaceableTypes = replaceableTypes;
+  }
+
+  public void setCapacity(int capacity) {
+    this.capacity = Math.max(1, capacity);
+  }
+
+  public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /** Queues an event for delivery. Never blocks. */
+  public void enqueue(String functionName, NativeArray params) {
+    Event event = new Event(functionName, params);
+    enqueuedCount.incrementAndGet();
+
+    boolean replaceable = replaceableTypes.contains(functionName);
+    if (depth.get() >= capacity) {
+      Event pending = replaceable ? pendingByType.get(functionName) : null;
+      if (overflowPolicy == OverflowPolicy.COALESCE_BY_TYPE
+          && pending != null
+          && pending.claimed.compareAndSet(false, true)) {
+        depth.decrementAndGet();
+        coalescedCount.incrementAndGet();
+      } else {
+        dropOldest();
+      }
+    }
+
+    if (replaceable) {
+      pendingByType.put(functionName, event);
+      replaceableEvents.offer(event);
+    }
+    queue.offer(event);
+    updateMaxDepth(depth.incrementAndGet());
+    scheduleDrain();
+  }
+
+  /**
+   * Drops the oldest pending event of a replaceable type, or the oldest pending event if none is
+   * replaceable. A dropped replaceable event stays in the queue until the dispatcher skips it.
+   */
+  private void dropOldest() {
+    if (!claimOldest(replaceableEvents)) {
+      claimOldest(queue);
+    }
+  }
+
+  private boolean claimOldest(ConcurrentLinkedQueue<Event> events) {
+    Event oldest;
+    while ((oldest = events.poll()) != null) {
+      if (oldest.claimed.compareAndSet(false, true)) {
+        pendingByType.remove(oldest.functionName, oldest);
+        depth.decrementAndGet();
+        droppedCount.incrementAndGet();
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Removes the events that are no longer pending from the head of the replaceable events. */
+  private void pruneReplaceableEvents() {
+    Event head;
+    while ((head = replaceableEvents.peek()) != null && head.claimed.get()) {
+      replaceableEvents.remove(head);
+    }
+  }
+
+  private void updateMaxDepth(int currentDepth) {
+    int max;
+    while (currentDepth > (max = maxDepth.get())) {
+      if (maxDepth.compareAndSet(max, currentDepth)) {
+        return;
+      }
+    }
+  }
+
+  private void scheduleDrain() {
+    if (drainScheduled.compareAndSet(false, true)) {
+      execute(this::drain);
+    }
+  }
+
+  private synchronized void execute(Runnable runnable) {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadExecutor(
+              r -> {
+                Thread thread = new Thread(r, "NavJsEventQueue");
+                thread.setDaemon(true);
+                return thread;
+              });
+    }
+    executor.execute(runnable);
+  }
+
+  /**
+   * Stops the dispatcher thread and discards the pending events. Enqueueing afterwards starts a new
+   * dispatcher thread.
+   */
+  public synchronized void shutdown() {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+    Event event;
+    while ((event = queue.poll()) != null) {
+      if (event.claimed.compareAndSet(false, true)) {
+        pendingByType.remove(event.functionName, event);
+        depth.decrementAndGet();
+      }
+    }
+    replaceableEvents.clear();
+    drainScheduled.set(false);
+  }
+
+  private void drain() {
+    drainScheduled.set(false);
+    Event event;
+    // shutdown() interrupts the dispatcher, which must then leave the pending events to it.
+    while (!Thread.currentThread().isInterrupted() && (event = queue.poll()) != null) {
+      // Events claimed by producers were dropped or coalesced and are already accounted for.
+      if (!event.claimed.compareAndSet(false, true)) {
+        continue;
+      }
+      pendingByType.remove(event.functionName, event);
+      depth.decrementAndGet();
+      pruneReplaceableEvents();
+      // A failing event must not hold back the ones behind it until the next enqueue.
+      try {
+        sink.send(event.functionName, event.params);
+        dispatchedCount.incrementAndGet();
+      } catch (RuntimeException e) {
+        Log.e(TAG, "Failed to send " + event.functionName, e);
+      }
+    }
+  }
+
+  public Map<String, Object> getMetrics() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("depth", depth.get());
+    map.put("maxDepth", maxDepth.get());
+    map.put("capacity", capacity);
+    map.put("enqueuedCount", (double) enqueuedCount.get());
+    map.put("dispatchedCount", (double) dispatchedCount.get());
+    map.put("droppedCount", (double) droppedCount.get());
+    map.put("coalescedCount", (double) coalescedCount.get());
+    return map;
+  }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.location.Location;
+import android.os.SystemClock;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableMap;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drops location updates that arrive too soon or too close to the last accepted one, and groups
+ * the accepted ones into batches. A batch is delivered once it is full or its first location has
+ * waited {@code maxBatchDelayMs}; the caller schedules a flush through {@link #scheduleFlush()} so
+ * a batch is also delivered when no further updates arrive.
+ */
+public class LocationThrottler {
+  private static final long DEFAULT_MAX_BATCH_DELAY_MS = 1000;
+
+  private final long minIntervalMs;
+  private final float minDistanceMeters;
+  private final int batchSize;
+  private final long maxBatchDelayMs;
+
+  private final List<Location> pending = new ArrayList<>();
+  private Location lastAccepted;
+  private long lastAcceptedAtMs;
+  private long firstPendingAtMs;
+  private boolean flushScheduled;
+
+  public LocationThrottler(
+      long minIntervalMs, float minDistanceMeters, int batchSize, long maxBatchDelayMs) {
+    this.minIntervalMs = Math.max(0, minIntervalMs);
+    this.minDistanceMeters = Math.max(0, minDistanceMeters);
+    this.batchSize = Math.max(1, batchSize);
+    this.maxBatchDelayMs = Math.max(0, maxBatchDelayMs);
+  }
+
+  /**
+   * Creates a throttler from {@code minIntervalMs}, {@code minDistanceMeters}, {@code batchSize}
+   * and {@code maxBatchDelayMs} options. Missing options do not throttle.
+   */
+  public static LocationThrottler fromOptions(@Nullable ReadableMap options) {
+    if (options == null) {
+      return new LocationThrottler(0, 0, 1, DEFAULT_MAX_BATCH_DELAY_MS);
+    }
+    return new LocationThrottler(
+        (long) ReadableMapUtil.getDouble("minIntervalMs", options, 0),
+        (float) ReadableMapUtil.getDouble("minDistanceMeters", options, 0),
+        ReadableMapUtil.getInt("batchSize", options, 1),
+        (long) ReadableMapUtil.getDouble("maxBatchDelayMs", options, DEFAULT_MAX_BATCH_DELAY_MS));
+  }
+
+  public boolean isBatching() {
+    return batchSize > 1;
+  }
+
+  /**
+   * Offers a location update. Returns the locations to deliver, or null if nothing should be sent
+   * yet.
+   */
+  public List<Location> offer(Location location) {
+    return offer(location, SystemClock.elapsedRealtime());
+  }
+
+  synchronized List<Location> offer(Location location, long nowMs) {
+    if (lastAccepted != null
+        && (nowMs - lastAcceptedAtMs < minIntervalMs
+            || (minDistanceMeters > 0 && lastAccepted.distanceTo(location) < minDistanceMeters))) {
+      // A dropped update still delivers a batch that has waited long enough.
+      return flushIfDue(nowMs);
+    }
+    lastAccepted = location;
+    lastAcceptedAtMs = nowMs;
+
+    if (pending.isEmpty()) {
+      firstPendingAtMs = nowMs;
+    }
+    pending.add(location);
+    if (pending.size() < batchSize && nowMs - firstPendingAtMs < maxBatchDelayMs) {
+      return null;
+    }
+    return flush();
+  }
+
+  /**
+   * Returns the delay in milliseconds after which the pending batch is due, and marks a flush as
+   * scheduled. Returns -1 if there is nothing pending or a flush is already scheduled.
+   */
+  public long scheduleFlush() {
+    return scheduleFlush(SystemClock.elapsedRealtime());
+  }
+
+  synchronized long scheduleFlush(long nowMs) {
+    if (pending.isEmpty() || flushScheduled) {
+      return -1;
+    }
+    flushScheduled = true;
+    return Math.max(0, firstPendingAtMs + maxBatchDelayMs - nowMs);
+  }
+
+  /**
+   * Runs a flush scheduled through {@link #scheduleFlush()}. Returns the pending locations if the
+   * batch is due, or null if it is not, in which case the caller schedules another flush.
+   */
+  public List<Location> runScheduledFlush() {
+    return runScheduledFlush(SystemClock.elapsedRealtime());
+  }
+
+  synchronized List<Location> runScheduledFlush(long nowMs) {
+    flushScheduled = false;
+    return flushIfDue(nowMs);
+  }
+
+  private List<Location> flushIfDue(long nowMs) {
+    if (pending.isEmpty() || nowMs - firstPendingAtMs < maxBatchDelayMs) {
+      return null;
+    }
+    return flush();
+  }
+
+  /** Returns the locations not delivered yet, or null if there are none. */
+  public synchronized List<Location> flush() {
+    if (pending.isEmpty()) {
+      return null;
+    }
+    List<Location> batch = new ArrayList<>(pending);
+    pending.clear();
+    return batch;
+  }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.net.Uri;
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.Nullable;
+import androidx.car.app.model.CarIcon;
+import androidx.core.graphics.drawable.IconCompat;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Process wide cache of the maneuver bitmaps generated by Nav SDK, keyed by maneuver, driving side
+ * and roundabout turn number. Every update carries new bitmaps for the same few maneuvers, so the
+ * first bitmap of each key is kept and the car icon and PNG file built from it are reused.
+ */
+public final class ManeuverIconCache {
+  private static final String TAG = "ManeuverIconCache";
+  private static final int DEFAULT_MAX_SIZE = 64;
+  private static final String ICON_DIR_NAME = "maneuver_icons";
+
+  private static ManeuverIconCache instance;
+
+  private static final class Entry {
+    final Bitmap bitmap;
+    @Nullable CarIcon carIcon;
+    @Nullable String fileUri;
+
+    Entry(Bitmap bitmap) {
+      this.bitmap = bitmap;
+    }
+  }
+
+  private final LruCache<String, Entry> cache = new LruCache<>(DEFAULT_MAX_SIZE);
+  @Nullable private File iconDir;
+
+  private ManeuverIconCache() {}
+
+  public static synchronized ManeuverIconCache getInstance() {
+    if (instance == null) {
+      instance = new ManeuverIconCache();
+    }
+    return instance;
+  }
+
+  /**
+   * Enables writing the icons as PNG files to the app's cache directory, so they can be referenced
+   * by URI. Pass null to disable it.
+   */
+  public synchronized void setFileExportEnabled(@Nullable Context context) {
+    iconDir = context != null ? new File(context.getCacheDir(), ICON_DIR_NAME) : null;
+  }
+
+  /** Adds the icons of every step of the update, writing their files if file export is enabled. */
+  public synchronized void cacheIcons(NavInfo navInfo) {
+    if (navInfo.getCurrentStep() != null) {
+      cacheIcon(navInfo.getCurrentStep());
+    }
+    if (navInfo.getRemainingSteps() != null) {
+      for (StepInfo stepInfo : navInfo.getRemainingSteps()) {
+        cacheIcon(stepInfo);
+      }
+    }
+  }
+
+  private void cacheIcon(StepInfo stepInfo) {
+    if (iconDir != null) {
+      getIconUri(stepInfo);
+    } else {
+      getEntry(stepInfo);
+    }
+  }
+
+  @Nullable
+  public synchronized Bitmap getBitmap(StepInfo stepInfo) {
+    Entry entry = getEntry(stepInfo);
+    return entry != null ? entry.bitmap : null;
+  }
+
+  /** Returns the car icon of the step's maneuver, or null if the step has no maneuver bitmap. */
+  @Nullable
+  public synchronized CarIcon getCarIcon(StepInfo stepInfo) {
+    Entry entry = getEntry(stepInfo);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.carIcon == null) {
+      entry.carIcon = new CarIcon.Builder(IconCompat.createWithBitmap(entry.bitmap)).build();
+    }
+    return entry.carIcon;
+  }
+
+  /**
+   * Returns the file URI of the step's maneuver icon, writing the file on first use. Returns null
+   * if file export is disabled, the step has no maneuver bitmap or the file cannot be written.
+   */
+  @Nullable
+  public synchronized String getIconUri(StepInfo stepInfo) {
+    if (iconDir == null) {
+      return null;
+    }
+    Entry entry = getEntry(stepInfo);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.fileUri == null) {
+      entry.fileUri = writeIcon(getKey(stepInfo), entry.bitmap);
+    }
+    return entry.fileUri;
+  }
+
+  public synchronized void clear() {
+    cache.evictAll();
+  }
+
+  @Nullable
+  private Entry getEntry(StepInfo stepInfo) {
+    String key = getKey(stepInfo);
+    Entry entry = cache.get(key);
+    if (entry == null) {
+      Bitmap bitmap = stepInfo.getManeuverBitmap();
+      if (bitmap == null) {
+        return null;
+      }
+      entry = new Entry(bitmap);
+      cache.put(key, entry);
+    }
+    return entry;
+  }
+
+  @Nullable
+  private String writeIcon(String key, Bitmap bitmap) {
+    if (!iconDir.exists() && !iconDir.mkdirs()) {
+      return null;
+    }
+    // Files left by an earlier run are overwritten, as the icons may differ between SDK versions.
+    File file = new File(iconDir, key + ".png");
+    try (OutputStream outputStream = new FileOutputStream(file)) {
+      bitmap.compress(Bitmap.CompressFormat.PNG, 100, outputStream);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to write maneuver icon " + key, e);
+      return null;
+    }
+    return Uri.fromFile(file).toString();
+  }
+
+  private static String getKey(StepInfo stepInfo) {
+    return stepInfo.getManeuver()
+        + "_"
+        + stepInfo.getDrivingSide()
+        + "_"
+        + stepInfo.getRoundaboutTurnNumber();
+  }
+}
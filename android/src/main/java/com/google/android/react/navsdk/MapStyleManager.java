@@ -0,0 +1,343 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.content.Context;
+import android.os.SystemClock;
+import android.util.Log;
+import android.util.LruCache;
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.model.MapStyleOptions;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process wide loader for map style JSON. Styles are kept in memory and on disk keyed by URL, and
+ * revalidated with ETag / Last-Modified once they are older than {@link #REVALIDATE_AFTER_MS}.
+ * Concurrent requests for the same URL share a single download, and every map using a style
+ * shares the same parsed {@link MapStyleOptions}.
+ */
+public class MapStyleManager {
+  private static final String TAG = "MapStyleManager";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final long REVALIDATE_AFTER_MS = 5 * 60 * 1000;
+  private static final int MEMORY_CACHE_SIZE = 16;
+  private static final int MAX_THREADS = 2;
+  private static final int MAX_QUEUED_REQUESTS = 32;
+  private static final int TIMEOUT_MS = 15000;
+  private static final String CACHE_DIR_NAME = "navsdk_map_styles";
+
+  private static MapStyleManager instance;
+
+  /**
+   * Receives the result of a style request. Called on a background thread, or on the calling
+   * thread when the style is already fresh in memory.
+   */
+  public interface Callback {
+    void onStyleLoaded(MapStyleOptions options);
+
+    void onStyleError(Exception e);
+  }
+
+  private static final class Entry {
+    final String json;
+    final MapStyleOptions options;
+    @Nullable final String etag;
+    @Nullable final String lastModified;
+    volatile long validatedAtMs;
+
+    Entry(String json, @Nullable String etag, @Nullable String lastModified, long validatedAtMs) {
+      this.json = json;
+      this.options = new MapStyleOptions(json);
+      this.etag = etag;
+      this.lastModified = lastModified;
+      this.validatedAtMs = validatedAtMs;
+    }
+  }
+
+  private final ThreadPoolExecutor executor;
+  private final LruCache<String, Entry> memoryCache = new LruCache<>(MEMORY_CACHE_SIZE);
+  private final Map<String, List<Callback>> inFlight = new HashMap<>();
+  @Nullable private volatile File cacheDir;
+
+  private MapStyleManager() {
+    executor =
+        new ThreadPoolExecutor(
+            MAX_THREADS,
+            MAX_THREADS,
+            30,
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<Runnable>(MAX_QUEUED_REQUESTS),
+            runnable -> new Thread(runnable, TAG));
+    executor.allowCoreThreadTimeOut(true);
+  }
+
+  public static synchronized MapStyleManager getInstance() {
+    if (instance == null) {
+      instance = new MapStyleManager();
+    }
+    return instance;
+  }
+
+  /** Enables the disk cache in the app's cache directory. */
+  public void initialize(Context context) {
+    if (cacheDir == null) {
+      cacheDir = new File(context.getCacheDir(), CACHE_DIR_NAME);
+    }
+  }
+
+  /**
+   * Loads the style at the given URL. A cached style is returned without a request while it is
+   * fresh; otherwise it is revalidated, and still returned if the request fails.
+   */
+  public void load(String url, Callback callback) {
+    Entry entry = memoryCache.get(url);
+    if (entry != null && !isStale(entry)) {
+      callback.onStyleLoaded(entry.options);
+      return;
+    }
+
+    synchronized (inFlight) {
+      List<Callback> callbacks = inFlight.get(url);
+      if (callbacks != null) {
+        callbacks.add(callback);
+        return;
+      }
+      callbacks = new ArrayList<>();
+      callbacks.add(callback);
+      inFlight.put(url, callbacks);
+    }
+    try {
+      executor.execute(() -> fetch(url));
+    } catch (RejectedExecutionException e) {
+      complete(url, null, e);
+    }
+  }
+
+  /** Returns the parsed style held in memory for the URL, even if it is due for revalidation. */
+  @Nullable
+  public MapStyleOptions getCachedStyle(String url) {
+    Entry entry = memoryCache.get(url);
+    return entry != null ? entry.options : null;
+  }
+
+  /**
+   * Downloads and parses the styles in the background so that later {@link #load} calls are
+   * served from memory. Runs {@code onComplete} on a background thread once every style has been
+   * loaded or has failed; failures are logged.
+   */
+  public void prefetch(List<String> urls, @Nullable Runnable onComplete) {
+    if (urls.isEmpty()) {
+      if (onComplete != null) {
+        onComplete.run();
+      }
+      return;
+    }
+    AtomicInteger remaining = new AtomicInteger(urls.size());
+    for (String url : urls) {
+      load(
+          url,
+          new Callback() {
+            @Override
+            public void onStyleLoaded(MapStyleOptions options) {
+              onPrefetchDone();
+            }
+
+            @Override
+            public void onStyleError(Exception e) {
+              Log.w(TAG, "Failed to prefetch map style " + url, e);
+              onPrefetchDone();
+            }
+
+            private void onPrefetchDone() {
+              if (remaining.decrementAndGet() == 0 && onComplete != null) {
+                onComplete.run();
+              }
+            }
+          });
+    }
+  }
+
+  private void fetch(String url) {
+    Entry cached = null;
+    Entry result = null;
+    Exception error = null;
+    // Runtime exceptions, such as a URL that is not HTTP, must still complete the request, or
+    // every later request for the URL would wait on it forever.
+    try {
+      cached = memoryCache.get(url);
+      if (cached == null) {
+        cached = readFromDisk(url);
+      }
+      result = download(url, cached);
+      memoryCache.put(url, result);
+    } catch (IOException | RuntimeException e) {
+      if (cached != null) {
+        // Serve the stale copy rather than leaving the map unstyled while offline.
+        Log.w(TAG, "Failed to revalidate map style " + url, e);
+        result = cached;
+        memoryCache.put(url, cached);
+      } else {
+        error = e;
+      }
+    }
+
+    complete(url, result, error);
+  }
+
+  private void complete(String url, @Nullable Entry result, @Nullable Exception error) {
+    List<Callback> callbacks;
+    synchronized (inFlight) {
+      callbacks = inFlight.remove(url);
+    }
+    if (callbacks == null) {
+      return;
+    }
+    for (Callback callback : callbacks) {
+      if (result != null) {
+        callback.onStyleLoaded(result.options);
+      } else {
+        callback.onStyleError(error);
+      }
+    }
+  }
+
+  private Entry download(String url, @Nullable Entry cached) throws IOException {
+    HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+    try {
+      connection.setRequestMethod("GET");
+      connection.setConnectTimeout(TIMEOUT_MS);
+      connection.setReadTimeout(TIMEOUT_MS);
+      if (cached != null && cached.etag != null) {
+        connection.setRequestProperty("If-None-Match", cached.etag);
+      }
+      if (cached != null && cached.lastModified != null) {
+        connection.setRequestProperty("If-Modified-Since", cached.lastModified);
+      }
+
+      int responseCode = connection.getResponseCode();
+      if (responseCode == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+        cached.validatedAtMs = SystemClock.elapsedRealtime();
+        return cached;
+      }
+      if (responseCode != HttpURLConnection.HTTP_OK) {
+        throw new IOException("Error response: " + responseCode);
+      }
+
+      String json;
+      try (InputStream inputStream = connection.getInputStream()) {
+        json = new String(readFully(inputStream), UTF_8);
+      }
+      Entry entry =
+          new Entry(
+              json,
+              connection.getHeaderField("ETag"),
+              connection.getHeaderField("Last-Modified"),
+              SystemClock.elapsedRealtime());
+      writeToDisk(url, entry);
+      return entry;
+    } finally {
+      connection.disconnect();
+    }
+  }
+
+  @Nullable
+  private Entry readFromDisk(String url) {
+    File dir = cacheDir;
+    if (dir == null) {
+      return null;
+    }
+    File metaFile = new File(dir, fileName(url) + ".properties");
+    File jsonFile = new File(dir, fileName(url) + ".json");
+    if (!metaFile.exists() || !jsonFile.exists()) {
+      return null;
+    }
+    try (InputStream metaStream = new FileInputStream(metaFile);
+        InputStream jsonStream = new FileInputStream(jsonFile)) {
+      Properties meta = new Properties();
+      meta.load(metaStream);
+      if (!url.equals(meta.getProperty("url"))) {
+        return null;
+      }
+      // A disk entry is always revalidated before it is considered fresh.
+      return new Entry(
+          new String(readFully(jsonStream), UTF_8),
+          meta.getProperty("etag"),
+          meta.getProperty("lastModified"),
+          SystemClock.elapsedRealtime() - REVALIDATE_AFTER_MS);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to read cached map style " + url, e);
+      return null;
+    }
+  }
+
+  private void writeToDisk(String url, Entry entry) {
+    File dir = cacheDir;
+    if (dir == null || (!dir.exists() && !dir.mkdirs())) {
+      return;
+    }
+    Properties meta = new Properties();
+    meta.setProperty("url", url);
+    if (entry.etag != null) {
+      meta.setProperty("etag", entry.etag);
+    }
+    if (entry.lastModified != null) {
+      meta.setProperty("lastModified", entry.lastModified);
+    }
+    try (OutputStream jsonStream = new FileOutputStream(new File(dir, fileName(url) + ".json"));
+        OutputStream metaStream =
+            new FileOutputStream(new File(dir, fileName(url) + ".properties"))) {
+      jsonStream.write(entry.json.getBytes(UTF_8));
+      meta.store(metaStream, null);
+    } catch (IOException e) {
+      Log.w(TAG, "Failed to cache map style " + url, e);
+    }
+  }
+
+  private static boolean isStale(Entry entry) {
+    return SystemClock.elapsedRealtime() - entry.validatedAtMs >= REVALIDATE_AFTER_MS;
+  }
+
+  private static String fileName(String url) {
+    return Integer.toHexString(url.hashCode());
+  }
+
+  private static byte[] readFully(InputStream inputStream) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    byte[] buffer = new byte[8192];
+    int read;
+    while ((read = inputStream.read(buffer)) != -1) {
+      outputStream.write(buffer, 0, read);
+    }
+    return outputStream.toByteArray();
+  }
+}
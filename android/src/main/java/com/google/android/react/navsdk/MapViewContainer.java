@@ -0,0 +1,91 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.content.Context;
+import android.view.Choreographer;
+import android.view.View;
+import android.widget.FrameLayout;
+
+/**
+ * React Native view that holds a map fragment. React Native does not lay out views it did not
+ * create, so the fragment's view is measured and laid out here on the next frame after the
+ * container is attached or resized, or a descendant requests layout.
+ */
+public class MapViewContainer extends FrameLayout implements Choreographer.FrameCallback {
+  private boolean layoutPending;
+
+  public MapViewContainer(Context context) {
+    super(context);
+  }
+
+  @Override
+  public void requestLayout() {
+    super.requestLayout();
+    scheduleLayout();
+  }
+
+  @Override
+  protected void onAttachedToWindow() {
+    super.onAttachedToWindow();
+    scheduleLayout();
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    cancelLayout();
+    super.onDetachedFromWindow();
+  }
+
+  @Override
+  protected void onSizeChanged(int width, int height, int oldWidth, int oldHeight) {
+    super.onSizeChanged(width, height, oldWidth, oldHeight);
+    scheduleLayout();
+  }
+
+  /** Drops the pending layout pass, if any. */
+  public void cancelLayout() {
+    if (layoutPending) {
+      layoutPending = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+  }
+
+  private void scheduleLayout() {
+    // Requests made before the view is attached are picked up by onAttachedToWindow.
+    if (layoutPending || !isAttachedToWindow()) {
+      return;
+    }
+    layoutPending = true;
+    Choreographer.getInstance().postFrameCallback(this);
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    layoutPending = false;
+    layoutChildren();
+    getViewTreeObserver().dispatchOnGlobalLayout();
+  }
+
+  private void layoutChildren() {
+    int widthSpec = View.MeasureSpec.makeMeasureSpec(getMeasuredWidth(), View.MeasureSpec.EXACTLY);
+    int heightSpec =
+        View.MeasureSpec.makeMeasureSpec(getMeasuredHeight(), View.MeasureSpec.EXACTLY);
+    for (int i = 0; i < getChildCount(); i++) {
+      View child = getChildAt(i);
+      child.measure(widthSpec, heightSpec);
+      child.layout(0, 0, child.getMeasuredWidth(), child.getMeasuredHeight());
+    }
+  }
+}
@@ -14,9 +14,15 @@
 package com.google.android.react.navsdk;
 
 import android.annotation.SuppressLint;
-import android.app.Activity;
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
 import android.graphics.Color;
-import androidx.core.util.Supplier;
+import android.graphics.Paint;
+import android.util.Log;
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.google.android.gms.maps.CameraUpdateFactory;
 import com.google.android.gms.maps.GoogleMap;
@@ -28,6 +34,7 @@ import com.google.android.gms.maps.model.CircleOptions;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.GroundOverlayOptions;
 import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.LatLngBounds;
 import com.google.android.gms.maps.model.MapStyleOptions;
 import com.google.android.gms.maps.model.Marker;
 import com.google.android.gms.maps.model.MarkerOptions;
@@ -35,31 +42,70 @@ import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.PolygonOptions;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.gms.maps.model.PolylineOptions;
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.Executors;
+import java.util.Objects;
+import java.util.Set;
 
 public class MapViewController {
+  private static final String TAG = "MapViewController";
+  private static final String LAYER_ID_KEY = "layerId";
+  private static final String OVERLAY_KEY = "key";
+  private static final String CLUSTERED_MARKER_ID_PREFIX = "cm";
+  private static final int[] CLUSTER_LABEL_BUCKETS = {1000, 500, 200, 100, 50, 20, 10};
+
   private GoogleMap mGoogleMap;
-  private Supplier<Activity> activitySupplier;
   private INavigationViewCallback mNavigationViewCallback;
-  private final List<Marker> markerList = new ArrayList<>();
-  private final List<Polyline> polylineList = new ArrayList<>();
-  private final List<Polygon> polygonList = new ArrayList<>();
-  private final List<GroundOverlay> groundOverlayList = new ArrayList<>();
-  private final List<Circle> circleList = new ArrayList<>();
-  private String style = "";
-
-  public void initialize(GoogleMap googleMap, Supplier<Activity> activitySupplier) {
+  private final OverlayRegistry<Marker> markers = new OverlayRegistry<>();
+  private final OverlayRegistry<Polyline> polylines = new OverlayRegistry<>();
+  private final OverlayRegistry<Polygon> polygons = new OverlayRegistry<>();
+  private final OverlayRegistry<GroundOverlay> groundOverlays = new OverlayRegistry<>();
+  private final OverlayRegistry<Circle> circles = new OverlayRegistry<>();
+  @Nullable private String mRequestedStyleUrl;
+
+  @Nullable private MarkerClusterer<MarkerOptions> markerClusterer;
+  private final OverlayRegistry<MarkerClusterer.Item<MarkerOptions>> clusteredMarkers =
+      new OverlayRegistry<>();
+  private Map<String, Marker> renderedClusterMarkers = new HashMap<>();
+  private final Map<String, BitmapDescriptor> clusterIcons = new HashMap<>();
+  private int clusterColor = Color.parseColor("#1A73E8");
+  private int clusterTextColor = Color.WHITE;
+  private int nextClusteredMarkerId = 0;
+  @Nullable private OverlayVirtualizer overlayVirtualizer;
+  private boolean viewportRenderPending = false;
+
+  /** Markers managed by {@link #setOverlays}, by layer id and then by overlay key. */
+  private final Map<String, Map<String, KeyedMarker>> keyedMarkerLayers = new HashMap<>();
+
+  private static final class KeyedMarker {
+    final Marker marker;
+    MarkerOptions options;
+
+    KeyedMarker(Marker marker, MarkerOptions options) {
+      this.marker = marker;
+      this.options = options;
+    }
+  }
+
+  /** Last value applied for each UI setting, keyed by its name in {@link #setUiSettings}. */
+  private final Map<String, Boolean> appliedUiSettings = new HashMap<>();
+
+  public void initialize(GoogleMap googleMap) {
     this.mGoogleMap = googleMap;
-    this.activitySupplier = activitySupplier;
+    appliedUiSettings.clear();
+    // Clustered and virtual overlays were rendered on the previous map and hold on to it.
+    markerClusterer = null;
+    clusteredMarkers.clear();
+    renderedClusterMarkers = new HashMap<>();
+    clusterIcons.clear();
+    overlayVirtualizer = null;
+    if (mGoogleMap != null) {
+      mGoogleMap.setOnCameraIdleListener(this::onCameraIdle);
+    }
   }
 
   public void setupMapListeners(INavigationViewCallback navigationViewCallback) {
@@ -68,6 +114,10 @@ public class MapViewController {
 
     mGoogleMap.setOnMarkerClickListener(
         marker -> {
+          if (marker.getTag() instanceof MarkerClusterer.Cluster) {
+            zoomToCluster((MarkerClusterer.Cluster<?>) marker.getTag());
+            return true;
+          }
           mNavigationViewCallback.onMarkerClick(marker);
           return false;
         });
@@ -93,6 +143,13 @@ public class MapViewController {
       return null;
     }
 
+    Circle circle = mGoogleMap.addCircle(buildCircleOptions(optionsMap));
+    circles.put(circle.getId(), circle, CollectionUtil.getString(LAYER_ID_KEY, optionsMap));
+
+    return circle;
+  }
+
+  private CircleOptions buildCircleOptions(Map<String, Object> optionsMap) {
     CircleOptions options = new CircleOptions();
 
     float strokeWidth =
@@ -113,43 +170,68 @@ public class MapViewController {
 
     String strokeColor = CollectionUtil.getString("strokeColor", optionsMap);
     if (strokeColor != null) {
-      options.strokeColor(Color.parseColor(strokeColor));
+      options.strokeColor(ColorCache.parseColor(strokeColor));
     }
 
     String fillColor = CollectionUtil.getString("fillColor", optionsMap);
     if (fillColor != null) {
-      options.fillColor(Color.parseColor(fillColor));
+      options.fillColor(ColorCache.parseColor(fillColor));
     }
 
-    Circle circle = mGoogleMap.addCircle(options);
-    circleList.add(circle);
-
-    return circle;
+    return options;
   }
 
-  public Marker addMarker(Map<String, Object> optionsMap) {
+  public Marker addMarker(ReadableMap optionsMap) {
     if (mGoogleMap == null) {
       return null;
     }
 
-    String imagePath = CollectionUtil.getString("imgPath", optionsMap);
-    String title = CollectionUtil.getString("title", optionsMap);
-    String snippet = CollectionUtil.getString("snippet", optionsMap);
-    float alpha = Double.valueOf(CollectionUtil.getDouble("alpha", optionsMap, 1)).floatValue();
-    float rotation =
-        Double.valueOf(CollectionUtil.getDouble("rotation", optionsMap, 0)).floatValue();
-    boolean draggable = CollectionUtil.getBool("draggable", optionsMap, false);
-    boolean flat = CollectionUtil.getBool("flat", optionsMap, false);
-    boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
+    Marker marker = mGoogleMap.addMarker(buildMarkerOptions(optionsMap));
+
+    markers.put(marker.getId(), marker, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+
+    return marker;
+  }
+
+  /**
+   * Hands the marker to the clusterer instead of adding it to the map. The marker is only
+   * materialized while it is visible and not part of a cluster. Returns null if the options have
+   * no position.
+   */
+  @Nullable
+  public MarkerClusterer.Item<MarkerOptions> addClusteredMarker(ReadableMap optionsMap) {
+    MarkerOptions options = buildMarkerOptions(optionsMap);
+    LatLng position = options.getPosition();
+    if (position == null) {
+      return null;
+    }
+    String id = CLUSTERED_MARKER_ID_PREFIX + nextClusteredMarkerId++;
+    MarkerClusterer.Item<MarkerOptions> item =
+        new MarkerClusterer.Item<>(id, position.latitude, position.longitude, options);
+
+    clusteredMarkers.put(id, item, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+    markerClusterer.add(item);
+    scheduleViewportRender();
+
+    return item;
+  }
+
+  private MarkerOptions buildMarkerOptions(ReadableMap optionsMap) {
+    String imagePath = ReadableMapUtil.getString("imgPath", optionsMap);
+    String title = ReadableMapUtil.getString("title", optionsMap);
+    String snippet = ReadableMapUtil.getString("snippet", optionsMap);
+    float alpha = (float) ReadableMapUtil.getDouble("alpha", optionsMap, 1);
+    float rotation = (float) ReadableMapUtil.getDouble("rotation", optionsMap, 0);
+    boolean draggable = ReadableMapUtil.getBool("draggable", optionsMap, false);
+    boolean flat = ReadableMapUtil.getBool("flat", optionsMap, false);
+    boolean visible = ReadableMapUtil.getBool("visible", optionsMap, true);
 
     MarkerOptions options = new MarkerOptions();
     if (imagePath != null && !imagePath.isEmpty()) {
-      BitmapDescriptor icon = BitmapDescriptorFactory.fromAsset(imagePath);
-      options.icon(icon);
+      options.icon(BitmapDescriptorCache.getInstance().fromAsset(imagePath));
     }
 
-    options.position(
-        ObjectTranslationUtil.getLatLngFromMap((Map<String, Object>) optionsMap.get("position")));
+    options.position(ReadableMapUtil.getLatLng("position", optionsMap));
 
     if (title != null) {
       options.title(title);
@@ -165,95 +247,97 @@ public class MapViewController {
     options.draggable(draggable);
     options.visible(visible);
 
-    Marker marker = mGoogleMap.addMarker(options);
-
-    markerList.add(marker);
-
-    return marker;
+    return options;
   }
 
-  public Polyline addPolyline(Map<String, Object> optionsMap) {
+  public Polyline addPolyline(ReadableMap optionsMap) {
     if (mGoogleMap == null) {
       return null;
     }
 
-    float width = Double.valueOf(CollectionUtil.getDouble("width", optionsMap, 0)).floatValue();
-    boolean clickable = CollectionUtil.getBool("clickable", optionsMap, false);
-    boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
+    PolylineOptions options = buildPolylineOptions(optionsMap);
+    if (options == null) {
+      return null;
+    }
+
+    Polyline polyline = mGoogleMap.addPolyline(options);
+    polylines.put(polyline.getId(), polyline, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+
+    return polyline;
+  }
+
+  @Nullable
+  private PolylineOptions buildPolylineOptions(ReadableMap optionsMap) {
+    float width = (float) ReadableMapUtil.getDouble("width", optionsMap, 0);
+    boolean clickable = ReadableMapUtil.getBool("clickable", optionsMap, false);
+    boolean visible = ReadableMapUtil.getBool("visible", optionsMap, true);
 
-    ArrayList latLngArr = (ArrayList) optionsMap.get("points");
+    List<LatLng> points = readPoints(optionsMap);
 
-    if (latLngArr == null) {
+    if (points == null) {
       return null;
     }
 
     PolylineOptions options = new PolylineOptions();
-    for (int i = 0; i < latLngArr.size(); i++) {
-      Map<String, Object> latLngMap = (Map<String, Object>) latLngArr.get(i);
-      LatLng latLng = createLatLng(latLngMap);
-      options.add(latLng);
-    }
+    options.addAll(points);
 
-    String color = CollectionUtil.getString("color", optionsMap);
+    String color = ReadableMapUtil.getString("color", optionsMap);
     if (color != null) {
-      options.color(Color.parseColor(color));
+      options.color(ColorCache.parseColor(color));
     }
 
     options.width(width);
     options.clickable(clickable);
     options.visible(visible);
 
-    Polyline polyline = mGoogleMap.addPolyline(options);
-    polylineList.add(polyline);
-
-    return polyline;
+    return options;
   }
 
-  public Polygon addPolygon(Map<String, Object> optionsMap) {
+  public Polygon addPolygon(ReadableMap optionsMap) {
     if (mGoogleMap == null) {
       return null;
     }
 
-    String strokeColor = CollectionUtil.getString("strokeColor", optionsMap);
-    String fillColor = CollectionUtil.getString("fillColor", optionsMap);
-    float strokeWidth =
-        Double.valueOf(CollectionUtil.getDouble("strokeWidth", optionsMap, 0)).floatValue();
-    boolean clickable = CollectionUtil.getBool("clickable", optionsMap, false);
-    boolean geodesic = CollectionUtil.getBool("geodesic", optionsMap, false);
-    boolean visible = CollectionUtil.getBool("visible", optionsMap, true);
+    Polygon polygon = mGoogleMap.addPolygon(buildPolygonOptions(optionsMap));
+    polygons.put(polygon.getId(), polygon, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
 
-    ArrayList latLngArr = (ArrayList) optionsMap.get("points");
+    return polygon;
+  }
+
+  private PolygonOptions buildPolygonOptions(ReadableMap optionsMap) {
+    String strokeColor = ReadableMapUtil.getString("strokeColor", optionsMap);
+    String fillColor = ReadableMapUtil.getString("fillColor", optionsMap);
+    float strokeWidth = (float) ReadableMapUtil.getDouble("strokeWidth", optionsMap, 0);
+    boolean clickable = ReadableMapUtil.getBool("clickable", optionsMap, false);
+    boolean geodesic = ReadableMapUtil.getBool("geodesic", optionsMap, false);
+    boolean visible = ReadableMapUtil.getBool("visible", optionsMap, true);
 
     PolygonOptions options = new PolygonOptions();
-    for (int i = 0; i < latLngArr.size(); i++) {
-      Map<String, Object> latLngMap = (Map<String, Object>) latLngArr.get(i);
-      LatLng latLng = createLatLng(latLngMap);
-      options.add(latLng);
+    List<LatLng> points = readPoints(optionsMap);
+    if (points != null) {
+      options.addAll(points);
     }
 
-    ArrayList holesArr = (ArrayList) optionsMap.get("holes");
-
-    for (int i = 0; i < holesArr.size(); i++) {
-      ArrayList arr = (ArrayList) holesArr.get(i);
-
-      List<LatLng> listHoles = new ArrayList<>();
-
-      for (int j = 0; j < arr.size(); j++) {
-        Map<String, Object> latLngMap = (Map<String, Object>) arr.get(j);
-        LatLng latLng = createLatLng(latLngMap);
-
-        listHoles.add(latLng);
+    ReadableArray encodedHoles = ReadableMapUtil.getArray("encodedHoles", optionsMap);
+    if (encodedHoles != null) {
+      for (int i = 0; i < encodedHoles.size(); i++) {
+        options.addHole(PolylineCodec.decode(encodedHoles.getString(i)));
       }
+    }
 
-      options.addHole(listHoles);
+    ReadableArray holesArr = ReadableMapUtil.getArray("holes", optionsMap);
+    if (holesArr != null) {
+      for (int i = 0; i < holesArr.size(); i++) {
+        options.addHole(readLatLngs(holesArr.getArray(i)));
+      }
     }
 
     if (fillColor != null) {
-      options.fillColor(Color.parseColor(fillColor));
+      options.fillColor(ColorCache.parseColor(fillColor));
     }
 
     if (strokeColor != null) {
-      options.strokeColor(Color.parseColor(strokeColor));
+      options.strokeColor(ColorCache.parseColor(strokeColor));
     }
 
     options.strokeWidth(strokeWidth);
@@ -261,10 +345,7 @@ public class MapViewController {
     options.geodesic(geodesic);
     options.clickable(clickable);
 
-    Polygon polygon = mGoogleMap.addPolygon(options);
-    polygonList.add(polygon);
-
-    return polygon;
+    return options;
   }
 
   public GroundOverlay addGroundOverlay(Map<String, Object> map) {
@@ -290,89 +371,742 @@ public class MapViewController {
 
     GroundOverlayOptions options = new GroundOverlayOptions();
     if (imagePath != null && !imagePath.isEmpty()) {
-      BitmapDescriptor bitmapDescriptor = BitmapDescriptorFactory.fromAsset(imagePath);
-      options.image(bitmapDescriptor);
+      options.image(BitmapDescriptorCache.getInstance().fromAsset(imagePath));
     }
     options.position(new LatLng(lat, lng), width, height);
     options.transparency(transparency);
     options.clickable(clickable);
     options.visible(visible);
     GroundOverlay groundOverlay = mGoogleMap.addGroundOverlay(options);
-    groundOverlayList.add(groundOverlay);
+    groundOverlays.put(
+        groundOverlay.getId(), groundOverlay, CollectionUtil.getString(LAYER_ID_KEY, map));
     return groundOverlay;
   }
 
+  public boolean isOverlayVirtualizationEnabled() {
+    return overlayVirtualizer != null;
+  }
+
+  /**
+   * Enables, disables or reconfigures overlay virtualization. While enabled, markers, polylines,
+   * polygons and circles are only added to the map while they are near the visible region. When
+   * virtualization is disabled, every virtualized overlay is added to the map and keeps its id.
+   */
+  public void setOverlayVirtualizationOptions(Map<String, Object> optionsMap) {
+    if (mGoogleMap == null) {
+      return;
+    }
+
+    boolean enabled = CollectionUtil.getBool("enabled", optionsMap, false);
+    if (!enabled) {
+      disableOverlayVirtualization();
+      return;
+    }
+
+    if (overlayVirtualizer == null) {
+      overlayVirtualizer = new OverlayVirtualizer(mGoogleMap);
+    }
+    overlayVirtualizer.setMargin(CollectionUtil.getDouble("margin", optionsMap, 0.5));
+    scheduleViewportRender();
+  }
+
+  private void disableOverlayVirtualization() {
+    if (overlayVirtualizer == null) {
+      return;
+    }
+    for (OverlayVirtualizer.VirtualOverlay<?> overlay : overlayVirtualizer.getOverlays()) {
+      Object rendered = overlayVirtualizer.materialize(overlay);
+      String layerId = overlayVirtualizer.getLayerId(overlay.getId());
+      if (rendered instanceof Marker) {
+        markers.put(overlay.getId(), (Marker) rendered, layerId);
+      } else if (rendered instanceof Polyline) {
+        polylines.put(overlay.getId(), (Polyline) rendered, layerId);
+      } else if (rendered instanceof Polygon) {
+        polygons.put(overlay.getId(), (Polygon) rendered, layerId);
+      } else if (rendered instanceof Circle) {
+        circles.put(overlay.getId(), (Circle) rendered, layerId);
+      }
+    }
+    overlayVirtualizer = null;
+  }
+
+  /** Returns null if the options have no position. */
+  @Nullable
+  public OverlayVirtualizer.VirtualOverlay<MarkerOptions> addVirtualMarker(
+      ReadableMap optionsMap) {
+    MarkerOptions options = buildMarkerOptions(optionsMap);
+    if (options.getPosition() == null) {
+      return null;
+    }
+    OverlayVirtualizer.VirtualOverlay<MarkerOptions> overlay =
+        overlayVirtualizer.addMarker(options, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+    scheduleViewportRender();
+    return overlay;
+  }
+
+  @Nullable
+  public OverlayVirtualizer.VirtualOverlay<PolylineOptions> addVirtualPolyline(
+      ReadableMap optionsMap) {
+    PolylineOptions options = buildPolylineOptions(optionsMap);
+    if (options == null) {
+      return null;
+    }
+    OverlayVirtualizer.VirtualOverlay<PolylineOptions> overlay =
+        overlayVirtualizer.addPolyline(
+            options, ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+    scheduleViewportRender();
+    return overlay;
+  }
+
+  public OverlayVirtualizer.VirtualOverlay<PolygonOptions> addVirtualPolygon(
+      ReadableMap optionsMap) {
+    OverlayVirtualizer.VirtualOverlay<PolygonOptions> overlay =
+        overlayVirtualizer.addPolygon(
+            buildPolygonOptions(optionsMap), ReadableMapUtil.getString(LAYER_ID_KEY, optionsMap));
+    scheduleViewportRender();
+    return overlay;
+  }
+
+  public OverlayVirtualizer.VirtualOverlay<CircleOptions> addVirtualCircle(
+      Map<String, Object> optionsMap) {
+    OverlayVirtualizer.VirtualOverlay<CircleOptions> overlay =
+        overlayVirtualizer.addCircle(
+            buildCircleOptions(optionsMap), CollectionUtil.getString(LAYER_ID_KEY, optionsMap));
+    scheduleViewportRender();
+    return overlay;
+  }
+
+  /**
+   * Adds each marker in the list and returns the ids of the added markers in the same order.
+   * Markers without a position are skipped while clustering or virtualization is enabled.
+   */
+  public List<String> addMarkers(ReadableArray optionsList) {
+    List<String> ids = new ArrayList<>(optionsList.size());
+    for (int i = 0; i < optionsList.size(); i++) {
+      ReadableMap options = optionsList.getMap(i);
+      if (isMarkerClusteringEnabled()) {
+        MarkerClusterer.Item<MarkerOptions> item = addClusteredMarker(options);
+        if (item != null) {
+          ids.add(item.getId());
+        }
+        continue;
+      }
+      if (isOverlayVirtualizationEnabled()) {
+        OverlayVirtualizer.VirtualOverlay<MarkerOptions> overlay = addVirtualMarker(options);
+        if (overlay != null) {
+          ids.add(overlay.getId());
+        }
+        continue;
+      }
+      Marker marker = addMarker(options);
+      if (marker != null) {
+        ids.add(marker.getId());
+      }
+    }
+    return ids;
+  }
+
+  /**
+   * Adds each polyline in the list and returns the ids of the added polylines in order. Polylines
+   * with malformed points are skipped.
+   */
+  public List<String> addPolylines(ReadableArray optionsList) {
+    List<String> ids = new ArrayList<>(optionsList.size());
+    for (int i = 0; i < optionsList.size(); i++) {
+      ReadableMap options = optionsList.getMap(i);
+      try {
+        if (isOverlayVirtualizationEnabled()) {
+          OverlayVirtualizer.VirtualOverlay<PolylineOptions> overlay = addVirtualPolyline(options);
+          if (overlay != null) {
+            ids.add(overlay.getId());
+          }
+          continue;
+        }
+        Polyline polyline = addPolyline(options);
+        if (polyline != null) {
+          ids.add(polyline.getId());
+        }
+      } catch (IllegalArgumentException e) {
+        Log.w(TAG, "Skipping polyline at index " + i, e);
+      }
+    }
+    return ids;
+  }
+
+  /** Adds each circle in the list and returns the ids of the added circles in the same order. */
+  public List<String> addCircles(List<?> optionsList) {
+    List<String> ids = new ArrayList<>(optionsList.size());
+    for (Object options : optionsList) {
+      if (isOverlayVirtualizationEnabled()) {
+        ids.add(addVirtualCircle((Map<String, Object>) options).getId());
+        continue;
+      }
+      Circle circle = addCircle((Map<String, Object>) options);
+      if (circle != null) {
+        ids.add(circle.getId());
+      }
+    }
+    return ids;
+  }
+
   public void removeMarker(String id) {
     UiThreadUtil.runOnUiThread(
         () -> {
-          for (Marker m : markerList) {
-            if (m.getId().equals(id)) {
-              m.remove();
-              markerList.remove(m);
-              return;
-            }
+          Marker marker = markers.remove(id);
+          if (marker != null) {
+            discardMarker(marker);
+            return;
+          }
+          if (!removeClusteredMarker(id)) {
+            removeVirtualOverlay(id);
           }
         });
   }
 
   public void removePolyline(String id) {
-    for (Polyline p : polylineList) {
-      if (p.getId().equals(id)) {
-        p.remove();
-        polylineList.remove(p);
-        return;
-      }
+    Polyline polyline = polylines.remove(id);
+    if (polyline != null) {
+      polyline.remove();
+      return;
     }
+    removeVirtualOverlay(id);
   }
 
   public void removePolygon(String id) {
-    for (Polygon p : polygonList) {
-      if (p.getId().equals(id)) {
-        p.remove();
-        polygonList.remove(p);
-        return;
-      }
+    Polygon polygon = polygons.remove(id);
+    if (polygon != null) {
+      polygon.remove();
+      return;
     }
+    removeVirtualOverlay(id);
   }
 
   public void removeCircle(String id) {
-    for (Circle c : circleList) {
-      if (c.getId().equals(id)) {
-        c.remove();
-        circleList.remove(c);
-        return;
-      }
+    Circle circle = circles.remove(id);
+    if (circle != null) {
+      circle.remove();
+      return;
     }
+    removeVirtualOverlay(id);
   }
 
   public void removeGroundOverlay(String id) {
-    for (GroundOverlay g : groundOverlayList) {
-      if (g.getId().equals(id)) {
-        g.remove();
-        groundOverlayList.remove(g);
-        return;
+    GroundOverlay groundOverlay = groundOverlays.remove(id);
+    if (groundOverlay != null) {
+      groundOverlay.remove();
+    }
+  }
+
+  /**
+   * Removes the overlay with the given id, whatever its type. Returns false if no overlay is
+   * registered with that id.
+   */
+  public boolean removeOverlay(String id) {
+    Marker marker = markers.remove(id);
+    if (marker != null) {
+      discardMarker(marker);
+      return true;
+    }
+    if (removeClusteredMarker(id)) {
+      return true;
+    }
+    Polyline polyline = polylines.remove(id);
+    if (polyline != null) {
+      polyline.remove();
+      return true;
+    }
+    Polygon polygon = polygons.remove(id);
+    if (polygon != null) {
+      polygon.remove();
+      return true;
+    }
+    Circle circle = circles.remove(id);
+    if (circle != null) {
+      circle.remove();
+      return true;
+    }
+    GroundOverlay groundOverlay = groundOverlays.remove(id);
+    if (groundOverlay != null) {
+      groundOverlay.remove();
+      return true;
+    }
+    return removeVirtualOverlay(id);
+  }
+
+  private boolean removeVirtualOverlay(String id) {
+    return overlayVirtualizer != null && overlayVirtualizer.remove(id);
+  }
+
+  public void removeOverlays(List<?> ids) {
+    for (Object id : ids) {
+      removeOverlay(id.toString());
+    }
+  }
+
+  /**
+   * Makes the keyed markers of a layer match the given descriptors, which are marker options with
+   * a unique {@code key}. New keys are added, keys no longer present are removed, and markers whose
+   * options changed are updated in place. Markers added to the layer by other means are left
+   * untouched, and reconciled markers bypass clustering and virtualization.
+   *
+   * <p>Returns the marker id for each key along with the number of markers added, updated and
+   * removed.
+   *
+   * @throws IllegalArgumentException if a descriptor has no key or a key is repeated.
+   */
+  @Nullable
+  public Map<String, Object> setOverlays(String layerId, ReadableArray descriptors) {
+    if (mGoogleMap == null) {
+      return null;
+    }
+
+    Set<String> keys = new HashSet<>();
+    for (int i = 0; i < descriptors.size(); i++) {
+      String key = ReadableMapUtil.getString(OVERLAY_KEY, descriptors.getMap(i));
+      if (key == null) {
+        throw new IllegalArgumentException("Overlay descriptor at index " + i + " has no key");
       }
+      if (!keys.add(key)) {
+        throw new IllegalArgumentException("Duplicate overlay key: " + key);
+      }
+    }
+
+    Map<String, KeyedMarker> previous = keyedMarkerLayers.remove(layerId);
+    if (previous == null) {
+      previous = new HashMap<>();
+    }
+    Map<String, KeyedMarker> current = new LinkedHashMap<>();
+    Map<String, Object> ids = new HashMap<>();
+    int addedCount = 0;
+    int updatedCount = 0;
+
+    for (int i = 0; i < descriptors.size(); i++) {
+      ReadableMap descriptor = descriptors.getMap(i);
+      String key = ReadableMapUtil.getString(OVERLAY_KEY, descriptor);
+      MarkerOptions options = buildMarkerOptions(descriptor);
+      KeyedMarker keyed = previous.remove(key);
+
+      // The marker may have been removed by id or with its layer since the last call.
+      if (keyed != null && markers.get(keyed.marker.getId()) == keyed.marker) {
+        if (applyMarkerOptionChanges(keyed.marker, keyed.options, options)) {
+          updatedCount++;
+        }
+        keyed.options = options;
+      } else {
+        Marker marker = mGoogleMap.addMarker(options);
+        markers.put(marker.getId(), marker, layerId);
+        keyed = new KeyedMarker(marker, options);
+        addedCount++;
+      }
+      current.put(key, keyed);
+      ids.put(key, keyed.marker.getId());
     }
+
+    int removedCount = 0;
+    for (KeyedMarker stale : previous.values()) {
+      if (markers.remove(stale.marker.getId()) != null) {
+        discardMarker(stale.marker);
+        removedCount++;
+      }
+    }
+    keyedMarkerLayers.put(layerId, current);
+
+    Map<String, Object> result = new HashMap<>();
+    result.put("ids", ids);
+    result.put("addedCount", addedCount);
+    result.put("updatedCount", updatedCount);
+    result.put("removedCount", removedCount);
+    return result;
   }
 
-  public void setMapStyle(String url) {
-    Executors.newSingleThreadExecutor()
-        .execute(
-            () -> {
-              try {
-                style = fetchJsonFromUrl(url);
-              } catch (IOException e) {
-                throw new RuntimeException(e);
-              }
+  /** Applies the options that differ between the two to the marker. Returns whether any did. */
+  private static boolean applyMarkerOptionChanges(
+      Marker marker, MarkerOptions from, MarkerOptions to) {
+    boolean changed = false;
+    if (!Objects.equals(from.getPosition(), to.getPosition())) {
+      MarkerAnimator.getInstance().cancel(marker);
+      marker.setPosition(to.getPosition());
+      changed = true;
+    }
+    if (from.getRotation() != to.getRotation()) {
+      marker.setRotation(to.getRotation());
+      changed = true;
+    }
+    if (from.getAlpha() != to.getAlpha()) {
+      marker.setAlpha(to.getAlpha());
+      changed = true;
+    }
+    if (!Objects.equals(from.getTitle(), to.getTitle())) {
+      marker.setTitle(to.getTitle());
+      changed = true;
+    }
+    if (!Objects.equals(from.getSnippet(), to.getSnippet())) {
+      marker.setSnippet(to.getSnippet());
+      changed = true;
+    }
+    // Icons come from BitmapDescriptorCache, so an unchanged path yields the same descriptor.
+    if (from.getIcon() != to.getIcon()) {
+      marker.setIcon(to.getIcon());
+      changed = true;
+    }
+    if (from.isFlat() != to.isFlat()) {
+      marker.setFlat(to.isFlat());
+      changed = true;
+    }
+    if (from.isDraggable() != to.isDraggable()) {
+      marker.setDraggable(to.isDraggable());
+      changed = true;
+    }
+    if (from.isVisible() != to.isVisible()) {
+      marker.setVisible(to.isVisible());
+      changed = true;
+    }
+    return changed;
+  }
+
+  /**
+   * Applies the options present in the map to an existing marker, leaving the others as they are.
+   * Setting the position stops any animation of the marker. Returns false if no marker is on the
+   * map with that id, which includes clustered and virtualized markers.
+   */
+  public boolean updateMarker(String id, ReadableMap optionsMap) {
+    Marker marker = markers.get(id);
+    if (marker == null) {
+      return false;
+    }
+
+    LatLng position = ReadableMapUtil.getLatLng("position", optionsMap);
+    if (position != null) {
+      MarkerAnimator.getInstance().cancel(marker);
+      marker.setPosition(position);
+    }
+    if (ReadableMapUtil.hasValue("imgPath", optionsMap)) {
+      String imagePath = ReadableMapUtil.getString("imgPath", optionsMap);
+      marker.setIcon(
+          imagePath.isEmpty()
+              ? BitmapDescriptorFactory.defaultMarker()
+              : BitmapDescriptorCache.getInstance().fromAsset(imagePath));
+    }
+    if (ReadableMapUtil.hasValue("title", optionsMap)) {
+      marker.setTitle(ReadableMapUtil.getString("title", optionsMap));
+    }
+    if (ReadableMapUtil.hasValue("snippet", optionsMap)) {
+      marker.setSnippet(ReadableMapUtil.getString("snippet", optionsMap));
+    }
+    if (ReadableMapUtil.hasValue("alpha", optionsMap)) {
+      marker.setAlpha((float) optionsMap.getDouble("alpha"));
+    }
+    if (ReadableMapUtil.hasValue("rotation", optionsMap)) {
+      marker.setRotation((float) optionsMap.getDouble("rotation"));
+    }
+    if (ReadableMapUtil.hasValue("draggable", optionsMap)) {
+      marker.setDraggable(optionsMap.getBoolean("draggable"));
+    }
+    if (ReadableMapUtil.hasValue("flat", optionsMap)) {
+      marker.setFlat(optionsMap.getBoolean("flat"));
+    }
+    if (ReadableMapUtil.hasValue("visible", optionsMap)) {
+      marker.setVisible(optionsMap.getBoolean("visible"));
+    }
+    return true;
+  }
+
+  /**
+   * Moves a marker to the position over the given duration. Calling it again before the animation
+   * ends continues from the marker's current position. Returns false if no marker is on the map
+   * with that id or the position is missing.
+   */
+  public boolean animateMarkerTo(String id, @Nullable LatLng position, long durationMs) {
+    Marker marker = markers.get(id);
+    if (marker == null || position == null) {
+      return false;
+    }
+    MarkerAnimator.getInstance().animateTo(marker, position, durationMs);
+    return true;
+  }
+
+  private static void discardMarker(Marker marker) {
+    MarkerAnimator.getInstance().cancel(marker);
+    marker.remove();
+  }
+
+  /** Removes every overlay that was added with the given layerId, regardless of its type. */
+  public void removeLayer(String layerId) {
+    keyedMarkerLayers.remove(layerId);
+    for (Marker marker : markers.removeLayer(layerId)) {
+      discardMarker(marker);
+    }
+    List<MarkerClusterer.Item<MarkerOptions>> clusteredItems =
+        clusteredMarkers.removeLayer(layerId);
+    if (!clusteredItems.isEmpty() && markerClusterer != null) {
+      for (MarkerClusterer.Item<MarkerOptions> item : clusteredItems) {
+        markerClusterer.remove(item.getId());
+      }
+      scheduleViewportRender();
+    }
+    for (Polyline polyline : polylines.removeLayer(layerId)) {
+      polyline.remove();
+    }
+    for (Polygon polygon : polygons.removeLayer(layerId)) {
+      polygon.remove();
+    }
+    for (Circle circle : circles.removeLayer(layerId)) {
+      circle.remove();
+    }
+    for (GroundOverlay groundOverlay : groundOverlays.removeLayer(layerId)) {
+      groundOverlay.remove();
+    }
+    if (overlayVirtualizer != null) {
+      overlayVirtualizer.removeLayer(layerId);
+    }
+  }
+
+  @Nullable
+  public Marker getMarker(String id) {
+    return markers.get(id);
+  }
+
+  @Nullable
+  public Polyline getPolyline(String id) {
+    return polylines.get(id);
+  }
+
+  @Nullable
+  public Polygon getPolygon(String id) {
+    return polygons.get(id);
+  }
+
+  @Nullable
+  public Circle getCircle(String id) {
+    return circles.get(id);
+  }
+
+  @Nullable
+  public GroundOverlay getGroundOverlay(String id) {
+    return groundOverlays.get(id);
+  }
+
+  public boolean isMarkerClusteringEnabled() {
+    return markerClusterer != null;
+  }
+
+  /**
+   * Enables, disables or reconfigures marker clustering. Only markers added while clustering is
+   * enabled are clustered. When clustering is disabled, clustered markers are added to the map as
+   * regular markers and keep their ids.
+   */
+  public void setMarkerClusteringOptions(Map<String, Object> optionsMap) {
+    boolean enabled = CollectionUtil.getBool("enabled", optionsMap, false);
+    if (!enabled) {
+      disableMarkerClustering();
+      return;
+    }
+
+    if (markerClusterer == null) {
+      markerClusterer = new MarkerClusterer<>();
+    }
+    markerClusterer.setGridSize(
+        CollectionUtil.getInt("gridSize", optionsMap, markerClusterer.getGridSize()));
+    markerClusterer.setMinClusterSize(
+        CollectionUtil.getInt("minClusterSize", optionsMap, markerClusterer.getMinClusterSize()));
+
+    String color = CollectionUtil.getString("clusterColor", optionsMap);
+    String textColor = CollectionUtil.getString("clusterTextColor", optionsMap);
+    if (color != null || textColor != null) {
+      if (color != null) {
+        clusterColor = ColorCache.parseColor(color);
+      }
+      if (textColor != null) {
+        clusterTextColor = ColorCache.parseColor(textColor);
+      }
+      clusterIcons.clear();
+      removeRenderedClusterMarkers();
+    }
+    scheduleViewportRender();
+  }
+
+  private void disableMarkerClustering() {
+    if (markerClusterer == null) {
+      return;
+    }
+    removeRenderedClusterMarkers();
+    if (mGoogleMap != null) {
+      for (MarkerClusterer.Item<MarkerOptions> item : markerClusterer.getItems()) {
+        Marker marker = mGoogleMap.addMarker(item.getPayload());
+        marker.setTag(item.getId());
+        markers.put(item.getId(), marker, clusteredMarkers.getLayerId(item.getId()));
+      }
+    }
+    clusteredMarkers.clear();
+    clusterIcons.clear();
+    markerClusterer = null;
+  }
+
+  private boolean removeClusteredMarker(String id) {
+    if (clusteredMarkers.remove(id) == null || markerClusterer == null) {
+      return false;
+    }
+    markerClusterer.remove(id);
+    scheduleViewportRender();
+    return true;
+  }
+
+  private void onCameraIdle() {
+    renderViewport();
+  }
 
-              Activity activity = activitySupplier.get();
-              if (activity != null) {
-                activity.runOnUiThread(
+  /** Coalesces viewport dependent work requested by several calls into one UI thread pass. */
+  private void scheduleViewportRender() {
+    if (viewportRenderPending) {
+      return;
+    }
+    viewportRenderPending = true;
+    UiThreadUtil.runOnUiThread(this::renderViewport);
+  }
+
+  private void renderViewport() {
+    viewportRenderPending = false;
+    if (mGoogleMap == null) {
+      return;
+    }
+    if (overlayVirtualizer != null) {
+      overlayVirtualizer.render(getVisibleBounds());
+    }
+    renderClusters();
+  }
+
+  /**
+   * Diffs the clusters visible in the current viewport against the rendered ones, so only markers
+   * that appear or disappear are touched.
+   */
+  private void renderClusters() {
+    if (markerClusterer == null) {
+      return;
+    }
+
+    List<MarkerClusterer.Cluster<MarkerOptions>> clusters =
+        markerClusterer.getClusters(
+            mGoogleMap.getCameraPosition().zoom, getVisibleBounds().expand(0.5));
+
+    Map<String, Marker> rendered = new HashMap<>(clusters.size());
+    for (MarkerClusterer.Cluster<MarkerOptions> cluster : clusters) {
+      Marker marker = renderedClusterMarkers.remove(cluster.getKey());
+      if (marker == null) {
+        marker = createClusterMarker(cluster);
+      } else if (!cluster.isSingleton() && marker.getTag() != cluster) {
+        // Same cell and size, but the members changed, so the centroid may have moved.
+        marker.setPosition(new LatLng(cluster.getLat(), cluster.getLng()));
+        marker.setTag(cluster);
+      }
+      rendered.put(cluster.getKey(), marker);
+    }
+    removeRenderedClusterMarkers();
+    renderedClusterMarkers = rendered;
+  }
+
+  private Marker createClusterMarker(MarkerClusterer.Cluster<MarkerOptions> cluster) {
+    if (cluster.isSingleton()) {
+      MarkerClusterer.Item<MarkerOptions> item = cluster.getItems().get(0);
+      Marker marker = mGoogleMap.addMarker(item.getPayload());
+      marker.setTag(item.getId());
+      return marker;
+    }
+
+    Marker marker =
+        mGoogleMap.addMarker(
+            new MarkerOptions()
+                .position(new LatLng(cluster.getLat(), cluster.getLng()))
+                .icon(getClusterIcon(cluster.getSize()))
+                .anchor(0.5f, 0.5f));
+    marker.setTag(cluster);
+    return marker;
+  }
+
+  private void removeRenderedClusterMarkers() {
+    for (Marker marker : renderedClusterMarkers.values()) {
+      marker.remove();
+    }
+    renderedClusterMarkers.clear();
+  }
+
+  private void zoomToCluster(MarkerClusterer.Cluster<?> cluster) {
+    LatLngBounds.Builder builder = LatLngBounds.builder();
+    for (MarkerClusterer.Item<?> item : cluster.getItems()) {
+      builder.include(new LatLng(item.getLat(), item.getLng()));
+    }
+    mGoogleMap.animateCamera(CameraUpdateFactory.newLatLngBounds(builder.build(), 100));
+  }
+
+  private BitmapDescriptor getClusterIcon(int size) {
+    String label = String.valueOf(size);
+    for (int bucket : CLUSTER_LABEL_BUCKETS) {
+      if (size >= bucket) {
+        label = bucket + "+";
+        break;
+      }
+    }
+
+    BitmapDescriptor icon = clusterIcons.get(label);
+    if (icon != null) {
+      return icon;
+    }
+
+    float density = Resources.getSystem().getDisplayMetrics().density;
+    int diameter = (int) ((label.length() > 3 ? 48 : 40) * density);
+    float radius = diameter / 2f;
+    Bitmap bitmap = Bitmap.createBitmap(diameter, diameter, Bitmap.Config.ARGB_8888);
+    Canvas canvas = new Canvas(bitmap);
+    Paint paint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    paint.setColor(clusterColor);
+    canvas.drawCircle(radius, radius, radius, paint);
+    paint.setColor(clusterTextColor);
+    paint.setTextSize(14 * density);
+    paint.setTextAlign(Paint.Align.CENTER);
+    paint.setFakeBoldText(true);
+    canvas.drawText(label, radius, radius - (paint.descent() + paint.ascent()) / 2, paint);
+
+    icon = BitmapDescriptorFactory.fromBitmap(bitmap);
+    clusterIcons.put(label, icon);
+    return icon;
+  }
+
+  private GeoBounds getVisibleBounds() {
+    LatLngBounds bounds = mGoogleMap.getProjection().getVisibleRegion().latLngBounds;
+    return new GeoBounds(
+        bounds.southwest.latitude,
+        bounds.southwest.longitude,
+        bounds.northeast.latitude,
+        bounds.northeast.longitude);
+  }
+
+  public void setMapStyle(String url) {
+    mRequestedStyleUrl = url;
+    // Apply a prefetched or previously used style right away; load() revalidates it if needed.
+    MapStyleOptions cachedStyle = MapStyleManager.getInstance().getCachedStyle(url);
+    if (cachedStyle != null && mGoogleMap != null) {
+      mGoogleMap.setMapStyle(cachedStyle);
+    }
+    MapStyleManager.getInstance()
+        .load(
+            url,
+            new MapStyleManager.Callback() {
+              @Override
+              public void onStyleLoaded(MapStyleOptions options) {
+                UiThreadUtil.runOnUiThread(
                     () -> {
-                      MapStyleOptions options = new MapStyleOptions(style);
-                      mGoogleMap.setMapStyle(options);
+                      // Ignore styles that finished loading after a newer one was requested.
+                      if (mGoogleMap != null
+                          && url.equals(mRequestedStyleUrl)
+                          && options != cachedStyle) {
+                        mGoogleMap.setMapStyle(options);
+                      }
                     });
               }
+
+              @Override
+              public void onStyleError(Exception e) {
+                Log.w(TAG, "Failed to load map style " + url, e);
+              }
             });
   }
 
@@ -421,60 +1155,70 @@ public class MapViewController {
   public void setIndoorEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.setIndoorEnabled(isOn);
+      appliedUiSettings.put("isIndoorEnabled", isOn);
     }
   }
 
   public void setTrafficEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.setTrafficEnabled(isOn);
+      appliedUiSettings.put("isTrafficEnabled", isOn);
     }
   }
 
   public void setCompassEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setCompassEnabled(isOn);
+      appliedUiSettings.put("isCompassEnabled", isOn);
     }
   }
 
   public void setRotateGesturesEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setRotateGesturesEnabled(isOn);
+      appliedUiSettings.put("isRotateGesturesEnabled", isOn);
     }
   }
 
   public void setScrollGesturesEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setScrollGesturesEnabled(isOn);
+      appliedUiSettings.put("isScrollGesturesEnabled", isOn);
     }
   }
 
   public void setScrollGesturesEnabledDuringRotateOrZoom(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setScrollGesturesEnabledDuringRotateOrZoom(isOn);
+      appliedUiSettings.put("isScrollGesturesEnabledDuringRotateOrZoom", isOn);
     }
   }
 
   public void setTiltGesturesEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setTiltGesturesEnabled(isOn);
+      appliedUiSettings.put("isTiltGesturesEnabled", isOn);
     }
   }
 
   public void setZoomControlsEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setZoomControlsEnabled(isOn);
+      appliedUiSettings.put("isZoomControlsEnabled", isOn);
     }
   }
 
   public void setZoomGesturesEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setZoomGesturesEnabled(isOn);
+      appliedUiSettings.put("isZoomGesturesEnabled", isOn);
     }
   }
 
   public void setBuildingsEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.setBuildingsEnabled(isOn);
+      appliedUiSettings.put("isBuildingsEnabled", isOn);
     }
   }
 
@@ -482,12 +1226,14 @@ public class MapViewController {
   public void setMyLocationEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.setMyLocationEnabled(isOn);
+      appliedUiSettings.put("isMyLocationEnabled", isOn);
     }
   }
 
   public void setMapToolbarEnabled(boolean isOn) {
     if (mGoogleMap != null) {
       mGoogleMap.getUiSettings().setMapToolbarEnabled(isOn);
+      appliedUiSettings.put("isMapToolbarEnabled", isOn);
     }
   }
 
@@ -497,10 +1243,84 @@ public class MapViewController {
       return;
     }
 
-    UiThreadUtil.runOnUiThread(
-        () -> {
-          mGoogleMap.getUiSettings().setMyLocationButtonEnabled(isOn);
-        });
+    // Recorded before the change is posted, so setUiSettings calls made in the meantime skip it.
+    appliedUiSettings.put("isMyLocationButtonEnabled", isOn);
+    UiThreadUtil.runOnUiThread(() -> mGoogleMap.getUiSettings().setMyLocationButtonEnabled(isOn));
+  }
+
+  public void setIndoorLevelPickerEnabled(boolean isOn) {
+    if (mGoogleMap != null) {
+      mGoogleMap.getUiSettings().setIndoorLevelPickerEnabled(isOn);
+      appliedUiSettings.put("isIndoorLevelPickerEnabled", isOn);
+    }
+  }
+
+  /**
+   * Applies several UI settings at once. Settings that match the last applied value are skipped,
+   * and unknown or missing settings are left unchanged.
+   */
+  public void setUiSettings(Map<String, Object> settings) {
+    if (mGoogleMap == null) {
+      return;
+    }
+
+    for (Map.Entry<String, Object> entry : settings.entrySet()) {
+      if (!(entry.getValue() instanceof Boolean)) {
+        continue;
+      }
+      Boolean isOn = (Boolean) entry.getValue();
+      if (isOn.equals(appliedUiSettings.get(entry.getKey()))) {
+        continue;
+      }
+      applyUiSetting(entry.getKey(), isOn);
+    }
+  }
+
+  private void applyUiSetting(String name, boolean isOn) {
+    switch (name) {
+      case "isCompassEnabled":
+        setCompassEnabled(isOn);
+        break;
+      case "isMapToolbarEnabled":
+        setMapToolbarEnabled(isOn);
+        break;
+      case "isIndoorLevelPickerEnabled":
+        setIndoorLevelPickerEnabled(isOn);
+        break;
+      case "isRotateGesturesEnabled":
+        setRotateGesturesEnabled(isOn);
+        break;
+      case "isScrollGesturesEnabled":
+        setScrollGesturesEnabled(isOn);
+        break;
+      case "isScrollGesturesEnabledDuringRotateOrZoom":
+        setScrollGesturesEnabledDuringRotateOrZoom(isOn);
+        break;
+      case "isTiltGesturesEnabled":
+        setTiltGesturesEnabled(isOn);
+        break;
+      case "isZoomControlsEnabled":
+        setZoomControlsEnabled(isOn);
+        break;
+      case "isZoomGesturesEnabled":
+        setZoomGesturesEnabled(isOn);
+        break;
+      case "isMyLocationButtonEnabled":
+        setMyLocationButtonEnabled(isOn);
+        break;
+      case "isMyLocationEnabled":
+        setMyLocationEnabled(isOn);
+        break;
+      case "isIndoorEnabled":
+        setIndoorEnabled(isOn);
+        break;
+      case "isTrafficEnabled":
+        setTrafficEnabled(isOn);
+        break;
+      case "isBuildingsEnabled":
+        setBuildingsEnabled(isOn);
+        break;
+    }
   }
 
   public void setMapType(int jsValue) {
@@ -516,7 +1336,24 @@ public class MapViewController {
       return;
     }
 
+    for (Marker marker : markers.values()) {
+      MarkerAnimator.getInstance().cancel(marker);
+    }
     mGoogleMap.clear();
+    markers.clear();
+    keyedMarkerLayers.clear();
+    polylines.clear();
+    polygons.clear();
+    circles.clear();
+    groundOverlays.clear();
+    clusteredMarkers.clear();
+    renderedClusterMarkers.clear();
+    if (markerClusterer != null) {
+      markerClusterer.clear();
+    }
+    if (overlayVirtualizer != null) {
+      overlayVirtualizer.clear();
+    }
   }
 
   public void resetMinMaxZoomLevel() {
@@ -542,37 +1379,46 @@ public class MapViewController {
     }
   }
 
-  private String fetchJsonFromUrl(String urlString) throws IOException {
-    URL url = new URL(urlString);
-    HttpURLConnection connection = (HttpURLConnection) url.openConnection();
-    connection.setRequestMethod("GET");
+  /**
+   * Reads the vertices of a polyline or polygon from {@code encodedPoints}, {@code flatPoints} or
+   * {@code points}, in that order of preference. Returns null if none is set.
+   *
+   * @throws IllegalArgumentException if the encoded string is truncated or the flat array has an
+   *     odd length.
+   */
+  @Nullable
+  private static List<LatLng> readPoints(ReadableMap optionsMap) {
+    String encodedPoints = ReadableMapUtil.getString("encodedPoints", optionsMap);
+    if (encodedPoints != null) {
+      return PolylineCodec.decode(encodedPoints);
+    }
 
-    int responseCode = connection.getResponseCode();
-    if (responseCode == HttpURLConnection.HTTP_OK) {
-      InputStream inputStream = connection.getInputStream();
-      BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-      StringBuilder stringBuilder = new StringBuilder();
-      String line;
-      while ((line = reader.readLine()) != null) {
-        stringBuilder.append(line);
-      }
-      reader.close();
-      inputStream.close();
-      return stringBuilder.toString();
-    } else {
-      // Handle error response
-      throw new IOException("Error response: " + responseCode);
+    ReadableArray flatPoints = ReadableMapUtil.getArray("flatPoints", optionsMap);
+    if (flatPoints != null) {
+      return readFlatPoints(flatPoints);
     }
+
+    ReadableArray latLngArr = ReadableMapUtil.getArray("points", optionsMap);
+    return latLngArr != null ? readLatLngs(latLngArr) : null;
   }
 
-  private LatLng createLatLng(Map<String, Object> map) {
-    Double lat = null;
-    Double lng = null;
-    if (map.containsKey("lat") && map.containsKey("lng")) {
-      if (map.get("lat") != null) lat = Double.parseDouble(map.get("lat").toString());
-      if (map.get("lng") != null) lng = Double.parseDouble(map.get("lng").toString());
+  /** Reads a flat {@code [lat0, lng0, lat1, lng1, ...]} array without boxing the coordinates. */
+  private static List<LatLng> readFlatPoints(ReadableArray flat) {
+    if (flat.size() % 2 != 0) {
+      throw new IllegalArgumentException("Flat point array must have an even length");
     }
+    List<LatLng> points = new ArrayList<>(flat.size() / 2);
+    for (int i = 0; i < flat.size(); i += 2) {
+      points.add(new LatLng(flat.getDouble(i), flat.getDouble(i + 1)));
+    }
+    return points;
+  }
 
-    return new LatLng(lat, lng);
+  private static List<LatLng> readLatLngs(ReadableArray latLngArr) {
+    List<LatLng> points = new ArrayList<>(latLngArr.size());
+    for (int i = 0; i < latLngArr.size(); i++) {
+      points.add(ReadableMapUtil.toLatLng(latLngArr.getMap(i)));
+    }
+    return points;
   }
 }
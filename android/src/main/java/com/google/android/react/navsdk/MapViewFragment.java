@@ -76,7 +76,7 @@ public class MapViewFragment extends SupportMapFragment
             mGoogleMap = googleMap;
 
             mMapViewController = new MapViewController();
-            mMapViewController.initialize(googleMap, () -> requireActivity());
+            mMapViewController.initialize(googleMap);
 
             // Setup map listeners with the provided callback
             mMapViewController.setupMapListeners(MapViewFragment.this);
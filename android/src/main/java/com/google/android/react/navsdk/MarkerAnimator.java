@@ -0,0 +1,132 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import android.view.Choreographer;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Marker;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Moves markers towards a target position over a duration. A single frame callback drives every
+ * running animation, and it is only posted while at least one marker is animating. Must be used
+ * from the UI thread.
+ */
+public class MarkerAnimator implements Choreographer.FrameCallback {
+  private static MarkerAnimator instance;
+
+  private final Map<Marker, Animation> animations = new IdentityHashMap<>();
+  private boolean framePending;
+
+  private static final class Animation {
+    final LatLng from;
+    final LatLng to;
+    final long durationNanos;
+    long startTimeNanos = -1;
+
+    Animation(LatLng from, LatLng to, long durationNanos) {
+      this.from = from;
+      this.to = to;
+      this.durationNanos = durationNanos;
+    }
+  }
+
+  private MarkerAnimator() {}
+
+  public static synchronized MarkerAnimator getInstance() {
+    if (instance == null) {
+      instance = new MarkerAnimator();
+    }
+    return instance;
+  }
+
+  /**
+   * Animates the marker from its current position to the given one. Replaces any animation already
+   * running for the marker, starting from wherever it got to. A non-positive duration moves the
+   * marker at once.
+   */
+  public void animateTo(Marker marker, LatLng position, long durationMs) {
+    if (durationMs <= 0) {
+      cancel(marker);
+      marker.setPosition(position);
+      return;
+    }
+    animations.put(marker, new Animation(marker.getPosition(), position, durationMs * 1_000_000L));
+    if (!framePending) {
+      framePending = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  /** Stops animating the marker, leaving it where it is. */
+  public void cancel(Marker marker) {
+    animations.remove(marker);
+    if (animations.isEmpty() && framePending) {
+      framePending = false;
+      Choreographer.getInstance().removeFrameCallback(this);
+    }
+  }
+
+  public boolean isAnimating(Marker marker) {
+    return animations.containsKey(marker);
+  }
+
+  public int getAnimationCount() {
+    return animations.size();
+  }
+
+  @Override
+  public void doFrame(long frameTimeNanos) {
+    framePending = false;
+    Iterator<Map.Entry<Marker, Animation>> iterator = animations.entrySet().iterator();
+    while (iterator.hasNext()) {
+      Map.Entry<Marker, Animation> entry = iterator.next();
+      Animation animation = entry.getValue();
+      // The first frame starts the clock, so a burst of calls does not skip ahead.
+      if (animation.startTimeNanos < 0) {
+        animation.startTimeNanos = frameTimeNanos;
+      }
+      double fraction =
+          Math.min(
+              1, (frameTimeNanos - animation.startTimeNanos) / (double) animation.durationNanos);
+      entry.getKey().setPosition(interpolate(animation.from, animation.to, fraction));
+      if (fraction >= 1) {
+        iterator.remove();
+      }
+    }
+    if (!animations.isEmpty()) {
+      framePending = true;
+      Choreographer.getInstance().postFrameCallback(this);
+    }
+  }
+
+  /** Interpolates linearly, taking the shorter way across the antimeridian. */
+  private static LatLng interpolate(LatLng from, LatLng to, double fraction) {
+    double lngDelta = to.longitude - from.longitude;
+    if (lngDelta > 180) {
+      lngDelta -= 360;
+    } else if (lngDelta < -180) {
+      lngDelta += 360;
+    }
+    double lng = from.longitude + lngDelta * fraction;
+    if (lng > 180) {
+      lng -= 360;
+    } else if (lng < -180) {
+      lng += 360;
+    }
+    return new LatLng(from.latitude + (to.latitude - from.latitude) * fraction, lng);
+  }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid based marker clustering. Items are bucketed into square cells of {@code gridSize} screen
+ * pixels in Web Mercator space at each integer zoom level. The cells of a zoom level are computed
+ * once and kept up to date as items are added or removed, and only the clusters of the changed
+ * cells are rebuilt, so panning only filters the cached clusters by the visible bounds.
+ *
+ * <p>This class has no Android dependencies and is not thread-safe.
+ */
+public class MarkerClusterer<T> {
+  private static final double TILE_SIZE = 256;
+  private static final int MAX_ZOOM = 21;
+
+  private final Map<String, Item<T>> items = new LinkedHashMap<>();
+  private final Map<Integer, Level<T>> levels = new HashMap<>();
+  private int gridSize = 100;
+  private int minClusterSize = 2;
+
+  public static final class Item<T> {
+    private final String id;
+    private final double lat;
+    private final double lng;
+    private final double x;
+    private final double y;
+    private final T payload;
+
+    public Item(String id, double lat, double lng, T payload) {
+      this.id = id;
+      this.lat = lat;
+      this.lng = lng;
+      this.x = lngToX(lng);
+      this.y = latToY(lat);
+      this.payload = payload;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public double getLat() {
+      return lat;
+    }
+
+    public double getLng() {
+      return lng;
+    }
+
+    public T getPayload() {
+      return payload;
+    }
+  }
+
+  public static final class Cluster<T> {
+    private final String key;
+    private final double lat;
+    private final double lng;
+    private final List<Item<T>> items;
+
+    Cluster(String key, double lat, double lng, List<Item<T>> items) {
+      this.key = key;
+      this.lat = lat;
+      this.lng = lng;
+      this.items = items;
+    }
+
+    /**
+     * Stable identity of the cluster. Singletons use the item id, so an item keeps its key when it
+     * moves between zoom levels. Other clusters are keyed by cell and size, which stay the same
+     * when a member is replaced; the cluster is then a new instance with the new centroid and
+     * members.
+     */
+    public String getKey() {
+      return key;
+    }
+
+    public double getLat() {
+      return lat;
+    }
+
+    public double getLng() {
+      return lng;
+    }
+
+    public List<Item<T>> getItems() {
+      return items;
+    }
+
+    public int getSize() {
+      return items.size();
+    }
+
+    public boolean isSingleton() {
+      return items.size() == 1;
+    }
+  }
+
+  /** The cells of a zoom level and the clusters built from them. */
+  private static final class Level<T> {
+    final int zoom;
+    final long cellsPerAxis;
+    final Map<Long, List<Item<T>>> cells = new LinkedHashMap<>();
+    final Map<Long, List<Cluster<T>>> clustersByCell = new HashMap<>();
+    // Null when a cell changed since the clusters were last collected.
+    List<Cluster<T>> clusters;
+
+    Level(int zoom, int gridSize) {
+      this.zoom = zoom;
+      this.cellsPerAxis = Math.max(1, (long) Math.ceil(TILE_SIZE * Math.pow(2, zoom) / gridSize));
+    }
+
+    long cellOf(Item<T> item) {
+      long cellX = Math.min(cellsPerAxis - 1, (long) (item.x * cellsPerAxis));
+      long cellY = Math.min(cellsPerAxis - 1, (long) (item.y * cellsPerAxis));
+      return cellX * cellsPerAxis + cellY;
+    }
+
+    void add(Item<T> item) {
+      long cell = cellOf(item);
+      List<Item<T>> cellItems = cells.get(cell);
+      if (cellItems == null) {
+        cellItems = new ArrayList<>();
+        cells.put(cell, cellItems);
+      }
+      cellItems.add(item);
+      clustersByCell.remove(cell);
+      clusters = null;
+    }
+
+    void remove(Item<T> item) {
+      long cell = cellOf(item);
+      List<Item<T>> cellItems = cells.get(cell);
+      if (cellItems == null || !cellItems.remove(item)) {
+        return;
+      }
+      if (cellItems.isEmpty()) {
+        cells.remove(cell);
+      }
+      clustersByCell.remove(cell);
+      clusters = null;
+    }
+  }
+
+  /** Sets the cell size in pixels. Invalidates the cached clusters if the value changes. */
+  public void setGridSize(int gridSize) {
+    int value = Math.max(1, gridSize);
+    if (value != this.gridSize) {
+      this.gridSize = value;
+      levels.clear();
+    }
+  }
+
+  public int getGridSize() {
+    return gridSize;
+  }
+
+  /**
+   * Sets the minimum number of items a cell needs to be rendered as a cluster. Cells with fewer
+   * items are returned as singletons.
+   */
+  public void setMinClusterSize(int minClusterSize) {
+    int value = Math.max(2, minClusterSize);
+    if (value != this.minClusterSize) {
+      this.minClusterSize = value;
+      for (Level<T> level : levels.values()) {
+        level.clustersByCell.clear();
+        level.clusters = null;
+      }
+    }
+  }
+
+  public int getMinClusterSize() {
+    return minClusterSize;
+  }
+
+  public void add(Item<T> item) {
+    Item<T> previous = items.put(item.getId(), item);
+    for (Level<T> level : levels.values()) {
+      if (previous != null) {
+        level.remove(previous);
+      }
+      level.add(item);
+    }
+  }
+
+  public Item<T> get(String id) {
+    return items.get(id);
+  }
+
+  public Item<T> remove(String id) {
+    Item<T> item = items.remove(id);
+    if (item != null) {
+      for (Level<T> level : levels.values()) {
+        level.remove(item);
+      }
+    }
+    return item;
+  }
+
+  public Collection<Item<T>> getItems() {
+    return Collections.unmodifiableCollection(items.values());
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public void clear() {
+    items.clear();
+    levels.clear();
+  }
+
+  /** Returns the clusters at the given zoom level whose position lies within the given bounds. */
+  public List<Cluster<T>> getClusters(double zoom, GeoBounds bounds) {
+    List<Cluster<T>> visible = new ArrayList<>();
+    for (Cluster<T> cluster : getClusters(zoom)) {
+      if (bounds.contains(cluster.getLat(), cluster.getLng())) {
+        visible.add(cluster);
+      }
+    }
+    return visible;
+  }
+
+  /** Returns every cluster at the given zoom level. */
+  public List<Cluster<T>> getClusters(double zoom) {
+    int zoomLevel = (int) Math.max(0, Math.min(MAX_ZOOM, Math.floor(zoom)));
+    Level<T> level = levels.get(zoomLevel);
+    if (level == null) {
+      level = new Level<>(zoomLevel, gridSize);
+      for (Item<T> item : items.values()) {
+        level.add(item);
+      }
+      levels.put(zoomLevel, level);
+    }
+    if (level.clusters == null) {
+      List<Cluster<T>> clusters = new ArrayList<>(level.cells.size());
+      for (Map.Entry<Long, List<Item<T>>> entry : level.cells.entrySet()) {
+        List<Cluster<T>> cellClusters = level.clustersByCell.get(entry.getKey());
+        if (cellClusters == null) {
+          cellClusters = computeClusters(level.zoom, entry.getKey(), entry.getValue());
+          level.clustersByCell.put(entry.getKey(), cellClusters);
+        }
+        clusters.addAll(cellClusters);
+      }
+      level.clusters = clusters;
+    }
+    return level.clusters;
+  }
+
+  private List<Cluster<T>> computeClusters(int zoom, long cell, List<Item<T>> cellItems) {
+    if (cellItems.size() < minClusterSize) {
+      List<Cluster<T>> singletons = new ArrayList<>(cellItems.size());
+      for (Item<T> item : cellItems) {
+        singletons.add(
+            new Cluster<>(
+                item.getId(), item.getLat(), item.getLng(), Collections.singletonList(item)));
+      }
+      return singletons;
+    }
+    double x = 0;
+    double y = 0;
+    for (Item<T> item : cellItems) {
+      x += item.x;
+      y += item.y;
+    }
+    x /= cellItems.size();
+    y /= cellItems.size();
+    String key = zoom + ":" + cell + ":" + cellItems.size();
+    // The cell's item list keeps changing, so the cluster holds a copy.
+    return Collections.singletonList(
+        new Cluster<>(key, yToLat(y), xToLng(x), new ArrayList<>(cellItems)));
+  }
+
+  static double lngToX(double lng) {
+    return (lng + 180) / 360;
+  }
+
+  static double latToY(double lat) {
+    double sin = Math.sin(Math.toRadians(Math.max(-85.05112878, Math.min(85.05112878, lat))));
+    return 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+  }
+
+  static double xToLng(double x) {
+    return x * 360 - 180;
+  }
+
+  static double yToLat(double y) {
+    return Math.toDegrees(Math.atan(Math.sinh(Math.PI * (1 - 2 * y))));
+  }
+}
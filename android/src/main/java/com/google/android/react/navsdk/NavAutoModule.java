@@ -16,12 +16,14 @@ package com.google.android.react.navsdk;
 import android.location.Location;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.CatalystInstance;
+import com.facebook.react.bridge.JavaOnlyMap;
 import com.facebook.react.bridge.NativeArray;
 import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
@@ -31,9 +33,12 @@ import com.google.android.gms.maps.model.CameraPosition;
 import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
 import com.google.android.libraries.navigation.StylingOptions;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -101,7 +106,7 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
   }
 
   public void setStylingOptions(Map<String, Object> stylingOptions) {
-    mStylingOptions = new StylingOptionsBuilder.Builder(stylingOptions).build();
+    mStylingOptions = new StylingOptionsBuilder.Builder(JavaOnlyMap.from(stylingOptions)).build();
     if (mStylingOptions != null && mNavigationViewController != null) {
       mNavigationViewController.setStylingOptions(mStylingOptions);
     }
@@ -148,6 +153,12 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
+          if (mMapViewController.isOverlayVirtualizationEnabled()) {
+            promise.resolve(
+                ObjectTranslationUtil.getMapFromVirtualOverlay(
+                    mMapViewController.addVirtualCircle(circleOptionsMap.toHashMap())));
+            return;
+          }
           Circle circle = mMapViewController.addCircle(circleOptionsMap.toHashMap());
 
           promise.resolve(ObjectTranslationUtil.getMapFromCircle(circle));
@@ -162,7 +173,28 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Marker marker = mMapViewController.addMarker(markerOptionsMap.toHashMap());
+          if (mMapViewController.isMarkerClusteringEnabled()) {
+            MarkerClusterer.Item<MarkerOptions> item =
+                mMapViewController.addClusteredMarker(markerOptionsMap);
+            if (item == null) {
+              promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, "Marker position is missing");
+              return;
+            }
+            promise.resolve(
+                ObjectTranslationUtil.getMapFromMarkerOptions(item.getId(), item.getPayload()));
+            return;
+          }
+          if (mMapViewController.isOverlayVirtualizationEnabled()) {
+            OverlayVirtualizer.VirtualOverlay<MarkerOptions> overlay =
+                mMapViewController.addVirtualMarker(markerOptionsMap);
+            if (overlay == null) {
+              promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, "Marker position is missing");
+              return;
+            }
+            promise.resolve(ObjectTranslationUtil.getMapFromVirtualOverlay(overlay));
+            return;
+          }
+          Marker marker = mMapViewController.addMarker(markerOptionsMap);
 
           promise.resolve(ObjectTranslationUtil.getMapFromMarker(marker));
         });
@@ -176,9 +208,19 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polyline polyline = mMapViewController.addPolyline(polylineOptionsMap.toHashMap());
-
-          promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          try {
+            if (mMapViewController.isOverlayVirtualizationEnabled()) {
+              promise.resolve(
+                  ObjectTranslationUtil.getMapFromVirtualOverlay(
+                      mMapViewController.addVirtualPolyline(polylineOptionsMap)));
+              return;
+            }
+            Polyline polyline = mMapViewController.addPolyline(polylineOptionsMap);
+
+            promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+          }
         });
   }
 
@@ -190,12 +232,111 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polygon polygon = mMapViewController.addPolygon(polygonOptionsMap.toHashMap());
+          try {
+            if (mMapViewController.isOverlayVirtualizationEnabled()) {
+              promise.resolve(
+                  ObjectTranslationUtil.getMapFromVirtualOverlay(
+                      mMapViewController.addVirtualPolygon(polygonOptionsMap)));
+              return;
+            }
+            Polygon polygon = mMapViewController.addPolygon(polygonOptionsMap);
+
+            promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+          }
+        });
+  }
+
+  @ReactMethod
+  public void addMarkers(ReadableArray optionsArray, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          List<String> ids = mMapViewController.addMarkers(optionsArray);
+
+          promise.resolve(Arguments.fromList(ids));
+        });
+  }
+
+  @ReactMethod
+  public void addPolylines(ReadableArray optionsArray, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          List<String> ids = mMapViewController.addPolylines(optionsArray);
 
-          promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          promise.resolve(Arguments.fromList(ids));
+        });
+  }
+
+  @ReactMethod
+  public void addCircles(ReadableArray optionsArray, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          List<String> ids = mMapViewController.addCircles(optionsArray.toArrayList());
+
+          promise.resolve(Arguments.fromList(ids));
+        });
+  }
+
+  @ReactMethod
+  public void removeOverlays(ReadableArray ids, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          mMapViewController.removeOverlays(ids.toArrayList());
+
+          promise.resolve(null);
+        });
+  }
+
+  @ReactMethod
+  public void setOverlays(String layerId, ReadableArray descriptors, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          Map<String, Object> result;
+          try {
+            result = mMapViewController.setOverlays(layerId, descriptors);
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+            return;
+          }
+          promise.resolve(Arguments.makeNativeMap(result));
         });
   }
 
+  @ReactMethod
+  public void getIconCacheStats(final Promise promise) {
+    promise.resolve(Arguments.makeNativeMap(BitmapDescriptorCache.getInstance().getStats()));
+  }
+
+  @ReactMethod
+  public void prefetchMapStyles(ReadableArray urls, final Promise promise) {
+    List<String> urlList = new ArrayList<>(urls.size());
+    for (int i = 0; i < urls.size(); i++) {
+      urlList.add(urls.getString(i));
+    }
+    MapStyleManager.getInstance().prefetch(urlList, () -> promise.resolve(null));
+  }
+
   @ReactMethod
   public void removeCircle(String id) {
     UiThreadUtil.runOnUiThread(
@@ -240,6 +381,73 @@ public class NavAutoModule extends ReactContextBaseJavaModule implements INaviga
         });
   }
 
+  @ReactMethod
+  public void setMarkerClusteringOptions(ReadableMap optionsMap) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.setMarkerClusteringOptions(optionsMap.toHashMap());
+        });
+  }
+
+  @ReactMethod
+  public void setOverlayVirtualizationOptions(ReadableMap optionsMap) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.setOverlayVirtualizationOptions(optionsMap.toHashMap());
+        });
+  }
+
+  @ReactMethod
+  public void setUiSettings(ReadableMap settingsMap) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.setUiSettings(settingsMap.toHashMap());
+        });
+  }
+
+  @ReactMethod
+  public void updateMarker(String id, ReadableMap optionsMap) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.updateMarker(id, optionsMap);
+        });
+  }
+
+  @ReactMethod
+  public void animateMarkerTo(String id, ReadableMap position, double durationMs) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.animateMarkerTo(
+              id, ReadableMapUtil.toLatLng(position), (long) durationMs);
+        });
+  }
+
+  @ReactMethod
+  public void removeLayer(String layerId) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mMapViewController == null) {
+            return;
+          }
+          mMapViewController.removeLayer(layerId);
+        });
+  }
+
   @ReactMethod
   public void clearMapView() {
     UiThreadUtil.runOnUiThread(
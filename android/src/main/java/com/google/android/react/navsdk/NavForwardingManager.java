@@ -14,18 +14,35 @@
 package com.google.android.react.navsdk;
 
 import android.content.Context;
+import com.google.android.libraries.navigation.NavigationUpdatesOptions;
+import com.google.android.libraries.navigation.NavigationUpdatesOptions.GeneratedStepImagesType;
 import com.google.android.libraries.navigation.Navigator;
 
 /** Starts and stops the forwarding of turn-by-turn nav info from Nav SDK. */
 public class NavForwardingManager {
-  /** Registers a service to receive navigation updates from nav info */
+  /**
+   * Registers a service to receive navigation updates from nav info, each holding up to the given
+   * number of next steps. Pass {@link Integer#MAX_VALUE} to send all remaining steps. Leaving out
+   * the maneuver bitmaps shrinks each update sent to the service.
+   */
   public static void startNavForwarding(
-      Navigator navigator, Context context, INavigationCallback navigationCallback) {
+      Navigator navigator,
+      Context context,
+      INavigationCallback navigationCallback,
+      int numNextStepsToPreview,
+      boolean includeManeuverBitmaps) {
+    NavigationUpdatesOptions options =
+        NavigationUpdatesOptions.builder()
+            .setNumNextStepsToPreview(numNextStepsToPreview)
+            .setGeneratedStepImagesType(
+                includeManeuverBitmaps
+                    ? GeneratedStepImagesType.BITMAP
+                    : GeneratedStepImagesType.NONE)
+            .setDisplayMetrics(context.getResources().getDisplayMetrics())
+            .build();
     boolean success =
         navigator.registerServiceForNavUpdates(
-            context.getPackageName(),
-            NavInfoReceivingService.class.getName(),
-            /* numNextStepsToPreview= */ Integer.MAX_VALUE); // Send all remaining steps.
+            context.getPackageName(), NavInfoReceivingService.class.getName(), options);
     if (success) {
       navigationCallback.logDebugInfo("Successfully registered service for nav updates");
     } else {
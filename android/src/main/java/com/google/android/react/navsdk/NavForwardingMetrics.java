@@ -0,0 +1,122 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counters of the nav info messages forwarded from Nav SDK to {@link NavInfoReceivingService}:
+ * the size of each IPC bundle, how long the message waited in the handler queue, how long reading
+ * the bundle took and how long the handler took overall. Reset whenever forwarding starts, so each
+ * configuration is measured on its own. Messages are only measured while enabled, as measuring the
+ * bundle size copies it into a parcel.
+ */
+public class NavForwardingMetrics {
+  private volatile boolean enabled;
+  private int numNextStepsToPreview;
+  private boolean includeManeuverBitmaps;
+  private long minUpdateIntervalMs;
+
+  private long messageCount;
+  private long postedCount;
+  private long skippedCount;
+  private long lastBundleBytes;
+  private long maxBundleBytes;
+  private long totalBundleBytes;
+  private long maxQueueDelayMs;
+  private long totalQueueDelayMs;
+  private long maxDecodeNanos;
+  private long totalDecodeNanos;
+  private long maxHandlerNanos;
+  private long totalHandlerNanos;
+
+  /** Clears the counters and records the configuration they are measured with. */
+  public synchronized void reset(
+      boolean enabled,
+      int numNextStepsToPreview,
+      boolean includeManeuverBitmaps,
+      long minUpdateIntervalMs) {
+    this.enabled = enabled;
+    this.numNextStepsToPreview = numNextStepsToPreview;
+    this.includeManeuverBitmaps = includeManeuverBitmaps;
+    this.minUpdateIntervalMs = minUpdateIntervalMs;
+    messageCount = 0;
+    postedCount = 0;
+    skippedCount = 0;
+    lastBundleBytes = 0;
+    maxBundleBytes = 0;
+    totalBundleBytes = 0;
+    maxQueueDelayMs = 0;
+    totalQueueDelayMs = 0;
+    maxDecodeNanos = 0;
+    totalDecodeNanos = 0;
+    maxHandlerNanos = 0;
+    totalHandlerNanos = 0;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public synchronized void recordMessage(
+      int bundleBytes, long queueDelayMs, long decodeNanos, long handlerNanos) {
+    messageCount++;
+    lastBundleBytes = bundleBytes;
+    maxBundleBytes = Math.max(maxBundleBytes, bundleBytes);
+    totalBundleBytes += bundleBytes;
+    maxQueueDelayMs = Math.max(maxQueueDelayMs, queueDelayMs);
+    totalQueueDelayMs += queueDelayMs;
+    maxDecodeNanos = Math.max(maxDecodeNanos, decodeNanos);
+    totalDecodeNanos += decodeNanos;
+    maxHandlerNanos = Math.max(maxHandlerNanos, handlerNanos);
+    totalHandlerNanos += handlerNanos;
+  }
+
+  public synchronized void recordPosted() {
+    postedCount++;
+  }
+
+  /** Records an update replaced by a newer one before it was posted. */
+  public synchronized void recordSkipped() {
+    skippedCount++;
+  }
+
+  public synchronized Map<String, Object> getMetrics() {
+    Map<String, Object> map = new HashMap<>();
+    map.put("enabled", enabled);
+    map.put(
+        "numNextStepsToPreview",
+        numNextStepsToPreview == Integer.MAX_VALUE ? -1.0 : (double) numNextStepsToPreview);
+    map.put("includeManeuverBitmaps", includeManeuverBitmaps);
+    map.put("minUpdateIntervalMs", (double) minUpdateIntervalMs);
+    map.put("messageCount", (double) messageCount);
+    map.put("postedCount", (double) postedCount);
+    map.put("skippedCount", (double) skippedCount);
+    map.put("lastBundleBytes", (double) lastBundleBytes);
+    map.put("maxBundleBytes", (double) maxBundleBytes);
+    map.put("averageBundleBytes", average(totalBundleBytes));
+    map.put("maxQueueDelayMs", (double) maxQueueDelayMs);
+    map.put("averageQueueDelayMs", average(totalQueueDelayMs));
+    map.put("maxDecodeMs", maxDecodeNanos / 1e6);
+    map.put("averageDecodeMs", average(totalDecodeNanos) / 1e6);
+    map.put("maxHandlerMs", maxHandlerNanos / 1e6);
+    map.put("averageHandlerMs", average(totalHandlerNanos) / 1e6);
+    return map;
+  }
+
+  private double average(long total) {
+    return messageCount > 0 ? (double) total / messageCount : 0;
+  }
+}
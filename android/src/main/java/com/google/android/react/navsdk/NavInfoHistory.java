@@ -0,0 +1,65 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ring buffer of the most recent {@link NavInfo} updates, for consumers that need every update
+ * rather than the latest one. When it is full the oldest update is overwritten and counted as
+ * dropped. Disabled while its capacity is 0.
+ */
+public class NavInfoHistory {
+  private final ArrayDeque<NavInfo> updates = new ArrayDeque<>();
+  private int capacity = 0;
+  private long droppedCount = 0;
+
+  /** Sets the number of updates kept, dropping the oldest ones if there are more. */
+  public synchronized void setCapacity(int capacity) {
+    this.capacity = Math.max(0, capacity);
+    while (updates.size() > this.capacity) {
+      updates.removeFirst();
+      droppedCount++;
+    }
+  }
+
+  public synchronized void add(NavInfo navInfo) {
+    if (capacity == 0) {
+      return;
+    }
+    if (updates.size() == capacity) {
+      updates.removeFirst();
+      droppedCount++;
+    }
+    updates.addLast(navInfo);
+  }
+
+  /** Returns the buffered updates, oldest first, and empties the buffer. */
+  public synchronized List<NavInfo> drain() {
+    List<NavInfo> drained = new ArrayList<>(updates);
+    updates.clear();
+    return drained;
+  }
+
+  public synchronized long getDroppedCount() {
+    return droppedCount;
+  }
+
+  public synchronized void clear() {
+    updates.clear();
+  }
+}
@@ -15,18 +15,24 @@ package com.google.android.react.navsdk;
 
 import android.app.Service;
 import android.content.Intent;
+import android.os.Bundle;
 import android.os.Handler;
 import android.os.HandlerThread;
 import android.os.IBinder;
 import android.os.Looper;
 import android.os.Message;
 import android.os.Messenger;
+import android.os.Parcel;
 import android.os.Process;
+import android.os.SystemClock;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LiveData;
 import androidx.lifecycle.MutableLiveData;
 import com.google.android.libraries.mapsplatform.turnbyturn.TurnByTurnManager;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Receives turn-by-turn navigation information forwarded from NavSDK and posts each update to live
@@ -34,6 +40,10 @@ import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
  * service may be part of a different process aside from the main process, depending on how you want
  * to structure your app. The service binding will be able to handle interprocess communication to
  * receive nav info messages from the main process.
+ *
+ * <p>Messages are decoded on a dedicated thread that lives as long as the service. Each decoded
+ * update replaces the latest value, is added to the optional history and is then posted to live
+ * data, subject to the update interval.
  */
 public class NavInfoReceivingService extends Service {
   /** The messenger used by the service to receive nav step updates. */
@@ -42,9 +52,29 @@ public class NavInfoReceivingService extends Service {
   /** Used to read incoming messages. */
   private TurnByTurnManager mTurnByTurnManager;
 
+  /** Thread on which incoming messages are decoded, quit when the service is destroyed. */
+  private HandlerThread mHandlerThread;
+
+  private IncomingNavStepHandler mHandler;
+
   private static final MutableLiveData<NavInfo> mNavInfoMutableLiveData = new MutableLiveData<>();
 
+  /** Latest decoded update, readable from any thread without waiting for the main thread. */
+  private static final AtomicReference<NavInfo> sLatestNavInfo = new AtomicReference<>();
+
+  private static final NavInfoHistory sHistory = new NavInfoHistory();
+
+  private static final NavForwardingMetrics sMetrics = new NavForwardingMetrics();
+
+  /** Minimum time between two posted updates. Updates changing the step are posted at once. */
+  private static volatile long sMinUpdateIntervalMs = 0;
+
   private final class IncomingNavStepHandler extends Handler {
+    private final Runnable mPostPendingNavInfo = this::postPendingNavInfo;
+    @Nullable private NavInfo mPendingNavInfo;
+    @Nullable private NavInfo mLastPostedNavInfo;
+    private long mLastPostUptimeMs;
+
     public IncomingNavStepHandler(Looper looper) {
       super(looper);
     }
@@ -52,11 +82,88 @@ public class NavInfoReceivingService extends Service {
     @Override
     public void handleMessage(Message msg) {
       if (TurnByTurnManager.MSG_NAV_INFO == msg.what) {
+        boolean measure = sMetrics.isEnabled();
+        long startNanos = measure ? SystemClock.elapsedRealtimeNanos() : 0;
+        // Measured before reading, while the bundle still holds the raw parcel data.
+        int bundleBytes = measure ? getParcelledSize(msg.getData()) : 0;
+        long decodeStartNanos = measure ? SystemClock.elapsedRealtimeNanos() : 0;
         // Read the nav info from the message data.
         NavInfo navInfo = mTurnByTurnManager.readNavInfoFromBundle(msg.getData());
-        // Post the value to LiveData to be displayed in the nav info header.
-        mNavInfoMutableLiveData.postValue(navInfo);
+        long decodeNanos = measure ? SystemClock.elapsedRealtimeNanos() - decodeStartNanos : 0;
+        sLatestNavInfo.set(navInfo);
+        sHistory.add(navInfo);
+        // Cache the maneuver icons here, so consumers on the main thread only get cache hits.
+        ManeuverIconCache.getInstance().cacheIcons(navInfo);
+        offer(navInfo);
+        if (measure) {
+          sMetrics.recordMessage(
+              bundleBytes,
+              SystemClock.uptimeMillis() - msg.getWhen(),
+              decodeNanos,
+              SystemClock.elapsedRealtimeNanos() - startNanos);
+        }
+      }
+    }
+
+    /** Posts the update now, or holds it as the latest until the update interval has passed. */
+    private void offer(NavInfo navInfo) {
+      long now = SystemClock.uptimeMillis();
+      long interval = sMinUpdateIntervalMs;
+      if (interval <= 0 || now - mLastPostUptimeMs >= interval || changesStep(navInfo)) {
+        if (mPendingNavInfo != null) {
+          removeCallbacks(mPostPendingNavInfo);
+          mPendingNavInfo = null;
+          sMetrics.recordSkipped();
+        }
+        post(navInfo, now);
+        return;
+      }
+      if (mPendingNavInfo != null) {
+        sMetrics.recordSkipped();
+      } else {
+        postDelayed(mPostPendingNavInfo, mLastPostUptimeMs + interval - now);
+      }
+      mPendingNavInfo = navInfo;
+    }
+
+    private void postPendingNavInfo() {
+      NavInfo navInfo = mPendingNavInfo;
+      mPendingNavInfo = null;
+      if (navInfo != null) {
+        post(navInfo, SystemClock.uptimeMillis());
+      }
+    }
+
+    private void post(NavInfo navInfo, long now) {
+      mLastPostedNavInfo = navInfo;
+      mLastPostUptimeMs = now;
+      sMetrics.recordPosted();
+      // Post the value to LiveData to be displayed in the nav info header.
+      mNavInfoMutableLiveData.postValue(navInfo);
+    }
+
+    private boolean changesStep(NavInfo navInfo) {
+      if (mLastPostedNavInfo == null
+          || navInfo.getRouteChanged()
+          || navInfo.getNavState() != mLastPostedNavInfo.getNavState()) {
+        return true;
       }
+      StepInfo step = navInfo.getCurrentStep();
+      StepInfo lastStep = mLastPostedNavInfo.getCurrentStep();
+      if (step == null || lastStep == null) {
+        return step != lastStep;
+      }
+      return step.getStepNumber() != lastStep.getStepNumber();
+    }
+  }
+
+  private static int getParcelledSize(Bundle bundle) {
+    Parcel parcel = Parcel.obtain();
+    try {
+      bundle.writeToParcel(parcel, 0);
+      return parcel.dataSize();
+    } finally {
+      parcel.recycle();
     }
   }
 
@@ -68,6 +175,7 @@ public class NavInfoReceivingService extends Service {
 
   @Override
   public boolean onUnbind(Intent intent) {
+    sLatestNavInfo.set(null);
     mNavInfoMutableLiveData.postValue(null);
     return super.onUnbind(intent);
   }
@@ -75,13 +183,58 @@ public class NavInfoReceivingService extends Service {
   @Override
   public void onCreate() {
     mTurnByTurnManager = TurnByTurnManager.createInstance();
-    HandlerThread thread =
-        new HandlerThread("NavInfoReceivingService", Process.THREAD_PRIORITY_DEFAULT);
-    thread.start();
-    mIncomingMessenger = new Messenger(new IncomingNavStepHandler(thread.getLooper()));
+    mHandlerThread = new HandlerThread("NavInfoReceivingService", Process.THREAD_PRIORITY_DEFAULT);
+    mHandlerThread.start();
+    mHandler = new IncomingNavStepHandler(mHandlerThread.getLooper());
+    mIncomingMessenger = new Messenger(mHandler);
+  }
+
+  @Override
+  public void onDestroy() {
+    // Drops the queued messages and any update held back by the update interval.
+    mHandler.removeCallbacksAndMessages(null);
+    mHandlerThread.quitSafely();
+    super.onDestroy();
   }
 
+  /**
+   * Returns the updates posted to this live data. Posting keeps only the latest value until the
+   * main thread reads it, so intermediate updates may be skipped; use {@link #drainNavInfoHistory}
+   * to receive every update.
+   */
   public static LiveData<NavInfo> getNavInfoLiveData() {
     return mNavInfoMutableLiveData;
   }
+
+  /** Returns the latest decoded update, or null if there is none. */
+  @Nullable
+  public static NavInfo getLatestNavInfo() {
+    return sLatestNavInfo.get();
+  }
+
+  /**
+   * Keeps up to the given number of decoded updates for {@link #drainNavInfoHistory}, ignoring the
+   * update interval. Pass 0, the default, to stop keeping them.
+   */
+  public static void setNavInfoHistorySize(int size) {
+    sHistory.setCapacity(size);
+  }
+
+  /** Returns the updates decoded since the last call, oldest first. */
+  public static List<NavInfo> drainNavInfoHistory() {
+    return sHistory.drain();
+  }
+
+  /** Number of updates overwritten in the history before they were drained. */
+  public static long getNavInfoHistoryDroppedCount() {
+    return sHistory.getDroppedCount();
+  }
+
+  public static void setMinUpdateIntervalMs(long minUpdateIntervalMs) {
+    sMinUpdateIntervalMs = minUpdateIntervalMs;
+  }
+
+  public static NavForwardingMetrics getMetrics() {
+    return sMetrics;
+  }
 }
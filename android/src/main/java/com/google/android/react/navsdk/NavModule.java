@@ -14,6 +14,8 @@
 package com.google.android.react.navsdk;
 
 import android.location.Location;
+import android.os.Handler;
+import android.os.Looper;
 import androidx.annotation.Nullable;
 import androidx.lifecycle.LifecycleOwner;
 import androidx.lifecycle.Observer;
@@ -34,7 +36,6 @@ import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeArray;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
-import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.ArrivalEvent;
 import com.google.android.libraries.navigation.ListenableResultFuture;
 import com.google.android.libraries.navigation.NavigationApi;
@@ -50,9 +51,12 @@ import com.google.android.libraries.navigation.TermsAndConditionsCheckOption;
 import com.google.android.libraries.navigation.TimeAndDistance;
 import com.google.android.libraries.navigation.Waypoint;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -63,6 +67,7 @@ public class NavModule extends ReactContextBaseJavaModule
     implements INavigationCallback, LifecycleEventListener {
   public static final String REACT_CLASS = "NavModule";
   private static final String TAG = "NavModule";
+  private static final int PATH_ENCODING_FLAT = 1;
   private static NavModule instance;
   private static ModuleReadyListener moduleReadyListener;
 
@@ -76,11 +81,36 @@ public class NavModule extends ReactContextBaseJavaModule
       new CopyOnWriteArrayList<>();
   private boolean mIsListeningRoadSnappedLocation = false;
   private LocationListener mLocationListener;
+  // Replaced on the JS thread and read on the location callback thread.
+  private volatile LocationThrottler mLocationThrottler;
+  private volatile LocationThrottler mRawLocationThrottler;
+  private final Handler mLocationFlushHandler = new Handler(Looper.getMainLooper());
   private Navigator.ArrivalListener mArrivalListener;
   private Navigator.RouteChangedListener mRouteChangedListener;
   private Navigator.TrafficUpdatedListener mTrafficUpdatedListener;
   private Navigator.ReroutingListener mReroutingListener;
   private Navigator.RemainingTimeOrDistanceChangedListener mRemainingTimeOrDistanceChangedListener;
+  private Navigator.RemainingTimeOrDistanceChangedListener mTraveledPathListener;
+
+  private boolean mTraveledPathUpdatesEnabled = false;
+  private int mTraveledPathCursor = 0;
+  // Identifies the traveled path, which restarts when a new route is set. The cursor is only valid
+  // for the path it was taken on.
+  private volatile int mTraveledPathId = 0;
+  private int mTraveledPathCursorId = 0;
+  private int mTraveledPathBatchSize = 1;
+  private int mTraveledPathMinDistanceMeters = 10;
+  private boolean mTraveledPathEncoded = true;
+
+  // Events whose latest value supersedes the pending ones, so the event queue may drop them.
+  private static final Set<String> REPLACEABLE_EVENTS =
+      new HashSet<>(
+          Arrays.asList(
+              "onRemainingTimeOrDistanceChanged", "onLocationChanged", "onRawLocationChanged"));
+
+  private final JsEventQueue mEventQueue =
+      new JsEventQueue(this::dispatchToReactNative, REPLACEABLE_EVENTS);
+  private final TurnByTurnEncoder mTurnByTurnEncoder = new TurnByTurnEncoder();
 
   private HashMap<String, Object> tocParamsMap;
   private @Navigator.TaskRemovedBehavior int taskRemovedBehaviour;
@@ -156,6 +186,7 @@ public class NavModule extends ReactContextBaseJavaModule
     stopUpdatingLocation();
     removeNavigationListeners();
     mWaypoints.clear();
+    mTraveledPathId++;
 
     for (NavigationReadyListener listener : mNavigationReadyListeners) {
       listener.onReady(false);
@@ -168,6 +199,15 @@ public class NavModule extends ReactContextBaseJavaModule
         });
   }
 
+  @ReactMethod
+  public void prefetchMapStyles(ReadableArray urls, final Promise promise) {
+    List<String> urlList = new ArrayList<>(urls.size());
+    for (int i = 0; i < urls.size(); i++) {
+      urlList.add(urls.getString(i));
+    }
+    MapStyleManager.getInstance().prefetch(urlList, () -> promise.resolve(null));
+  }
+
   @ReactMethod
   public void initializeNavigator(
       @Nullable ReadableMap tocParams, int taskRemovedBehaviourJsValue) {
@@ -271,16 +311,54 @@ public class NavModule extends ReactContextBaseJavaModule
    * Enable turn by turn logging using background service
    *
    * @param isEnabled
+   * @param options number of next steps to preview, whether maneuver bitmaps are generated and
+   *     exported as files, minimum interval between updates, whether payloads are delta encoded and
+   *     whether metrics are collected
    */
   @ReactMethod
-  public void setTurnByTurnLoggingEnabled(boolean isEnabled) {
+  public void setTurnByTurnLoggingEnabled(boolean isEnabled, @Nullable ReadableMap options) {
     if (isEnabled) {
-      NavForwardingManager.startNavForwarding(mNavigator, getCurrentActivity(), this);
+      int numNextStepsToPreview = Integer.MAX_VALUE;
+      boolean includeManeuverBitmaps = true;
+      long minUpdateIntervalMs = 0;
+      boolean includeManeuverIconUris = false;
+      boolean deltaEncoding = false;
+      boolean collectMetrics = false;
+      if (options != null) {
+        numNextStepsToPreview =
+            ReadableMapUtil.getInt("numNextStepsToPreview", options, Integer.MAX_VALUE);
+        includeManeuverBitmaps = ReadableMapUtil.getBool("includeManeuverBitmaps", options, true);
+        minUpdateIntervalMs = ReadableMapUtil.getInt("minUpdateIntervalMs", options, 0);
+        includeManeuverIconUris =
+            ReadableMapUtil.getBool("includeManeuverIconUris", options, false);
+        deltaEncoding = ReadableMapUtil.getBool("deltaEncoding", options, false);
+        collectMetrics = ReadableMapUtil.getBool("collectMetrics", options, false);
+      }
+      ManeuverIconCache.getInstance()
+          .setFileExportEnabled(includeManeuverIconUris ? reactContext : null);
+      mTurnByTurnEncoder.setDeltaEncoding(deltaEncoding);
+      NavInfoReceivingService.setMinUpdateIntervalMs(minUpdateIntervalMs);
+      NavInfoReceivingService.getMetrics()
+          .reset(
+              collectMetrics, numNextStepsToPreview, includeManeuverBitmaps, minUpdateIntervalMs);
+      NavForwardingManager.startNavForwarding(
+          mNavigator, getCurrentActivity(), this, numNextStepsToPreview, includeManeuverBitmaps);
     } else {
       NavForwardingManager.stopNavForwarding(mNavigator, getCurrentActivity(), this);
     }
   }
 
+  @ReactMethod
+  public void getTurnByTurnMetrics(final Promise promise) {
+    promise.resolve(Arguments.makeNativeMap(NavInfoReceivingService.getMetrics().getMetrics()));
+  }
+
+  /** Makes the next delta encoded turn by turn event hold every field and step. */
+  @ReactMethod
+  public void requestTurnByTurnKeyframe() {
+    mTurnByTurnEncoder.requestKeyframe();
+  }
+
   /**
    * Registers a number of example event listeners that show an on screen message when certain
    * navigation events occur (e.g. the driver's route changes or the destination is reached).
@@ -341,6 +419,64 @@ public class NavModule extends ReactContextBaseJavaModule
         };
     mNavigator.addRemainingTimeOrDistanceChangedListener(
         0, 0, mRemainingTimeOrDistanceChangedListener);
+
+    if (mTraveledPathUpdatesEnabled) {
+      registerTraveledPathListener();
+    }
+  }
+
+  private void registerTraveledPathListener() {
+    removeTraveledPathListener();
+
+    mTraveledPathListener =
+        new Navigator.RemainingTimeOrDistanceChangedListener() {
+          @Override
+          public void onRemainingTimeOrDistanceChanged() {
+            emitTraveledPathUpdate();
+          }
+        };
+    mNavigator.addRemainingTimeOrDistanceChangedListener(
+        0, mTraveledPathMinDistanceMeters, mTraveledPathListener);
+  }
+
+  private void removeTraveledPathListener() {
+    if (mTraveledPathListener != null) {
+      mNavigator.removeRemainingTimeOrDistanceChangedListener(mTraveledPathListener);
+      mTraveledPathListener = null;
+    }
+  }
+
+  /**
+   * Sends the points appended since the last update, once at least a batch is available. The event
+   * queue never drops these chunks, and each one carries its start index, so JS can tell a gap and
+   * fetch the missing points with {@code getTraveledPathSince}.
+   */
+  private void emitTraveledPathUpdate() {
+    List<LatLng> path = mNavigator.getTraveledRoute();
+    int pathId = mTraveledPathId;
+    boolean reset = mTraveledPathCursorId != pathId || mTraveledPathCursor > path.size();
+    int from = reset ? 0 : mTraveledPathCursor;
+    if (!reset && path.size() - from < mTraveledPathBatchSize) {
+      return;
+    }
+    mTraveledPathCursor = path.size();
+    mTraveledPathCursorId = pathId;
+
+    WritableNativeArray params = new WritableNativeArray();
+    params.pushMap(getTraveledPathChunk(path, pathId, from, reset, mTraveledPathEncoded));
+    sendCommandToReactNative("onTraveledPathUpdated", params);
+  }
+
+  private static WritableMap getTraveledPathChunk(
+      List<LatLng> path, int pathId, int from, boolean reset, boolean encoded) {
+    WritableMap map = Arguments.createMap();
+    map.putMap(
+        "path", ObjectTranslationUtil.getCompactMapFromPath(path, from, path.size(), encoded));
+    map.putInt("pathId", pathId);
+    map.putInt("startIndex", from);
+    map.putInt("nextIndex", path.size());
+    map.putBoolean("reset", reset);
+    return map;
   }
 
   private void removeNavigationListeners() {
@@ -360,23 +496,24 @@ public class NavModule extends ReactContextBaseJavaModule
       mNavigator.removeRemainingTimeOrDistanceChangedListener(
           mRemainingTimeOrDistanceChangedListener);
     }
+    removeTraveledPathListener();
   }
 
-  private void createWaypoint(Map map) {
-    String placeId = CollectionUtil.getString("placeId", map);
-    String title = CollectionUtil.getString("title", map);
+  private void createWaypoint(ReadableMap map) {
+    String placeId = ReadableMapUtil.getString("placeId", map);
+    String title = ReadableMapUtil.getString("title", map);
 
     Double lat = null;
     Double lng = null;
 
-    if (map.containsKey("position")) {
-      Map latlng = (Map) map.get("position");
-      if (latlng.get("lat") != null) lat = Double.parseDouble(latlng.get("lat").toString());
-      if (latlng.get("lng") != null) lng = Double.parseDouble(latlng.get("lng").toString());
+    ReadableMap latlng = ReadableMapUtil.getMap("position", map);
+    if (latlng != null) {
+      if (ReadableMapUtil.hasValue("lat", latlng)) lat = latlng.getDouble("lat");
+      if (ReadableMapUtil.hasValue("lng", latlng)) lng = latlng.getDouble("lng");
     }
 
-    boolean vehicleStopover = CollectionUtil.getBool("vehicleStopover", map, false);
-    boolean preferSameSideOfRoad = CollectionUtil.getBool("preferSameSideOfRoad", map, false);
+    boolean vehicleStopover = ReadableMapUtil.getBool("vehicleStopover", map, false);
+    boolean preferSameSideOfRoad = ReadableMapUtil.getBool("preferSameSideOfRoad", map, false);
 
     try {
       Waypoint.Builder waypointBuilder =
@@ -385,9 +522,8 @@ public class NavModule extends ReactContextBaseJavaModule
               .setVehicleStopover(vehicleStopover)
               .setPreferSameSideOfRoad(preferSameSideOfRoad);
 
-      if (map.containsKey("preferredHeading")) {
-        int preferredHeading = (int) map.get("preferredHeading");
-        waypointBuilder.setPreferredHeading(preferredHeading);
+      if (ReadableMapUtil.hasValue("preferredHeading", map)) {
+        waypointBuilder.setPreferredHeading(ReadableMapUtil.getInt("preferredHeading", map, 0));
       }
 
       if (placeId == null || placeId.isEmpty() && lat != null && lng != null) {
@@ -424,11 +560,11 @@ public class NavModule extends ReactContextBaseJavaModule
 
     pendingRoute = null; // reset pendingRoute.
     mWaypoints.clear(); // reset waypoints
+    mTraveledPathId++;
 
     // Set up a waypoint for each place that we want to go to.
     for (int i = 0; i < waypoints.size(); i++) {
-      Map map = waypoints.getMap(i).toHashMap();
-      createWaypoint(map);
+      createWaypoint(waypoints.getMap(i));
     }
 
     if (routingOptions != null) {
@@ -436,13 +572,12 @@ public class NavModule extends ReactContextBaseJavaModule
         pendingRoute =
             mNavigator.setDestinations(
                 mWaypoints,
-                ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions.toHashMap()),
-                ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptions.toHashMap()));
+                ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions),
+                ObjectTranslationUtil.getDisplayOptionsFromMap(displayOptions));
       } else {
         pendingRoute =
             mNavigator.setDestinations(
-                mWaypoints,
-                ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions.toHashMap()));
+                mWaypoints, ObjectTranslationUtil.getRoutingOptionsFromMap(routingOptions));
       }
     } else {
       pendingRoute = mNavigator.setDestinations(mWaypoints);
@@ -461,6 +596,7 @@ public class NavModule extends ReactContextBaseJavaModule
   public void clearDestinations() {
     if (mNavigator != null) {
       mWaypoints.clear(); // reset waypoints
+      mTraveledPathId++;
       mNavigator.clearDestinations();
     }
   }
@@ -538,14 +674,12 @@ public class NavModule extends ReactContextBaseJavaModule
       return;
     }
 
-    HashMap<String, Object> optionsMap = options.toHashMap();
-
     float minorThresholdPercentage =
-        (float) CollectionUtil.getDouble("minorSpeedAlertPercentThreshold", optionsMap, -1);
+        (float) ReadableMapUtil.getDouble("minorSpeedAlertPercentThreshold", options, -1);
     float majorThresholdPercentage =
-        (float) CollectionUtil.getDouble("majorSpeedAlertPercentThreshold", optionsMap, -1);
+        (float) ReadableMapUtil.getDouble("majorSpeedAlertPercentThreshold", options, -1);
     float severityUpgradeDurationSeconds =
-        (float) CollectionUtil.getDouble("severityUpgradeDurationSeconds", optionsMap, -1);
+        (float) ReadableMapUtil.getDouble("severityUpgradeDurationSeconds", options, -1);
 
     // The JS layer will validate the values before calling.
     SpeedAlertOptions alertOptions =
@@ -644,6 +778,82 @@ public class NavModule extends ReactContextBaseJavaModule
     promise.resolve(arr);
   }
 
+  @ReactMethod
+  public void getCompactRouteSegments(int jsEncoding, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    boolean encoded = jsEncoding != PATH_ENCODING_FLAT;
+    WritableArray arr = Arguments.createArray();
+
+    for (RouteSegment segment : mNavigator.getRouteSegments()) {
+      arr.pushMap(ObjectTranslationUtil.getCompactMapFromRouteSegment(segment, encoded));
+    }
+
+    promise.resolve(arr);
+  }
+
+  @ReactMethod
+  public void getCompactTraveledPath(int jsEncoding, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    promise.resolve(
+        ObjectTranslationUtil.getCompactMapFromPath(
+            mNavigator.getTraveledRoute(), jsEncoding != PATH_ENCODING_FLAT));
+  }
+
+  /**
+   * Returns the traveled path points from {@code index} on, along with the index to pass on the
+   * next call. If a new route was set since {@code pathId} was returned, or the traveled path got
+   * shorter than {@code index}, the whole path is returned and {@code reset} is set. A negative
+   * {@code pathId} skips the route check.
+   */
+  @ReactMethod
+  public void getTraveledPathSince(int index, int jsEncoding, int pathId, final Promise promise) {
+    if (mNavigator == null) {
+      promise.reject(JsErrors.NO_NAVIGATOR_ERROR_CODE, JsErrors.NO_NAVIGATOR_ERROR_MESSAGE);
+      return;
+    }
+
+    List<LatLng> path = mNavigator.getTraveledRoute();
+    int currentPathId = mTraveledPathId;
+    boolean reset = (pathId >= 0 && pathId != currentPathId) || index > path.size();
+    promise.resolve(
+        getTraveledPathChunk(
+            path,
+            currentPathId,
+            reset ? 0 : Math.max(0, index),
+            reset,
+            jsEncoding != PATH_ENCODING_FLAT));
+  }
+
+  @ReactMethod
+  public void setTraveledPathUpdatesEnabled(boolean isEnabled, @Nullable ReadableMap options) {
+    mTraveledPathUpdatesEnabled = isEnabled;
+    if (options != null) {
+      mTraveledPathBatchSize = Math.max(1, ReadableMapUtil.getInt("batchSize", options, 1));
+      mTraveledPathMinDistanceMeters =
+          Math.max(0, ReadableMapUtil.getInt("minDistanceMeters", options, 10));
+      mTraveledPathEncoded = ReadableMapUtil.getInt("encoding", options, 0) != PATH_ENCODING_FLAT;
+    }
+
+    if (mNavigator == null) {
+      return;
+    }
+    if (isEnabled) {
+      mTraveledPathCursor = 0;
+      mTraveledPathCursorId = mTraveledPathId;
+      registerTraveledPathListener();
+    } else {
+      removeTraveledPathListener();
+    }
+  }
+
   /** Send command to react native with string param. */
   private void sendCommandToReactNative(String functionName, String stringParam) {
     WritableNativeArray params = new WritableNativeArray();
@@ -656,6 +866,11 @@ public class NavModule extends ReactContextBaseJavaModule
 
   /** Send command to react native. */
   private void sendCommandToReactNative(String functionName, NativeArray params) {
+    mEventQueue.enqueue(functionName, params);
+  }
+
+  /** Delivers a queued event. Called on the event queue thread. */
+  private void dispatchToReactNative(String functionName, NativeArray params) {
     ReactContext reactContext = getReactApplicationContext();
 
     if (reactContext != null) {
@@ -664,12 +879,25 @@ public class NavModule extends ReactContextBaseJavaModule
     }
   }
 
+  @ReactMethod
+  public void setEventQueueOptions(ReadableMap options) {
+    mEventQueue.setCapacity(
+        ReadableMapUtil.getInt("capacity", options, JsEventQueue.DEFAULT_CAPACITY));
+    mEventQueue.setOverflowPolicy(
+        EnumTranslationUtil.getOverflowPolicyFromJsValue(
+            ReadableMapUtil.getInt("overflowPolicy", options, 0)));
+  }
+
+  @ReactMethod
+  public void getEventQueueMetrics(final Promise promise) {
+    promise.resolve(Arguments.makeNativeMap(mEventQueue.getMetrics()));
+  }
+
   @ReactMethod
   public void simulateLocation(ReadableMap location) {
     if (mNavigator != null) {
-      HashMap<String, Object> locationMap = location.toHashMap();
-      Double lat = CollectionUtil.getDouble("lat", locationMap, 0);
-      Double lng = CollectionUtil.getDouble("lng", locationMap, 0);
+      double lat = ReadableMapUtil.getDouble("lat", location, 0);
+      double lng = ReadableMapUtil.getDouble("lng", location, 0);
       mNavigator.getSimulator().setUserLocation(new LatLng(lat, lng));
     }
   }
@@ -728,7 +956,10 @@ public class NavModule extends ReactContextBaseJavaModule
   }
 
   @ReactMethod
-  public void startUpdatingLocation() {
+  public void startUpdatingLocation(@Nullable ReadableMap options) {
+    mLocationFlushHandler.removeCallbacksAndMessages(null);
+    mLocationThrottler = LocationThrottler.fromOptions(options);
+    mRawLocationThrottler = LocationThrottler.fromOptions(options);
     registerLocationListener();
     mIsListeningRoadSnappedLocation = true;
   }
@@ -737,6 +968,21 @@ public class NavModule extends ReactContextBaseJavaModule
   public void stopUpdatingLocation() {
     mIsListeningRoadSnappedLocation = false;
     removeLocationListener();
+    mLocationFlushHandler.removeCallbacksAndMessages(null);
+    if (mLocationThrottler != null) {
+      deliverLocations(
+          "onLocationChanged",
+          "onLocationsChanged",
+          mLocationThrottler,
+          mLocationThrottler.flush());
+    }
+    if (mRawLocationThrottler != null) {
+      deliverLocations(
+          "onRawLocationChanged",
+          "onRawLocationsChanged",
+          mRawLocationThrottler,
+          mRawLocationThrottler.flush());
+    }
   }
 
   private void registerLocationListener() {
@@ -749,20 +995,19 @@ public class NavModule extends ReactContextBaseJavaModule
             @Override
             public void onLocationChanged(final Location location) {
               if (mIsListeningRoadSnappedLocation) {
-                WritableNativeArray params = new WritableNativeArray();
-                params.pushMap(ObjectTranslationUtil.getMapFromLocation(location));
-
-                sendCommandToReactNative("onLocationChanged", params);
+                offerLocation(
+                    "onLocationChanged", "onLocationsChanged", mLocationThrottler, location);
               }
             }
 
             @Override
             public void onRawLocationUpdate(final Location location) {
               if (mIsListeningRoadSnappedLocation) {
-                WritableNativeArray params = new WritableNativeArray();
-                params.pushMap(ObjectTranslationUtil.getMapFromLocation(location));
-
-                sendCommandToReactNative("onRawLocationChanged", params);
+                offerLocation(
+                    "onRawLocationChanged",
+                    "onRawLocationsChanged",
+                    mRawLocationThrottler,
+                    location);
               }
             }
           };
@@ -772,6 +1017,63 @@ public class NavModule extends ReactContextBaseJavaModule
     }
   }
 
+  private void offerLocation(
+      String singleEventName,
+      String batchEventName,
+      LocationThrottler throttler,
+      Location location) {
+    deliverLocations(singleEventName, batchEventName, throttler, throttler.offer(location));
+    scheduleLocationFlush(singleEventName, batchEventName, throttler);
+  }
+
+  /**
+   * Delivers a pending batch once it is due, so batches are not held back while updates are
+   * dropped or stop arriving.
+   */
+  private void scheduleLocationFlush(
+      String singleEventName, String batchEventName, LocationThrottler throttler) {
+    long delayMs = throttler.scheduleFlush();
+    if (delayMs < 0) {
+      return;
+    }
+    mLocationFlushHandler.postDelayed(
+        () -> {
+          deliverLocations(
+              singleEventName, batchEventName, throttler, throttler.runScheduledFlush());
+          scheduleLocationFlush(singleEventName, batchEventName, throttler);
+        },
+        delayMs);
+  }
+
+  /**
+   * Sends the locations as a single batch event if the throttler batches, otherwise as one event
+   * per location.
+   */
+  private void deliverLocations(
+      String singleEventName,
+      String batchEventName,
+      LocationThrottler throttler,
+      @Nullable List<Location> locations) {
+    if (locations == null) {
+      return;
+    }
+    if (throttler.isBatching()) {
+      WritableNativeArray locationsArr = new WritableNativeArray();
+      for (Location location : locations) {
+        locationsArr.pushMap(ObjectTranslationUtil.getMapFromLocation(location));
+      }
+      WritableNativeArray params = new WritableNativeArray();
+      params.pushArray(locationsArr);
+      sendCommandToReactNative(batchEventName, params);
+      return;
+    }
+    for (Location location : locations) {
+      WritableNativeArray params = new WritableNativeArray();
+      params.pushMap(ObjectTranslationUtil.getMapFromLocation(location));
+      sendCommandToReactNative(singleEventName, params);
+    }
+  }
+
   private void removeLocationListener() {
     if (mRoadSnappedLocationProvider != null && mLocationListener != null) {
       mRoadSnappedLocationProvider.removeLocationListener(mLocationListener);
@@ -783,35 +1085,8 @@ public class NavModule extends ReactContextBaseJavaModule
     if (navInfo == null || reactContext == null) {
       return;
     }
-    WritableMap map = Arguments.createMap();
-
-    map.putInt("navState", navInfo.getNavState());
-    map.putBoolean("routeChanged", navInfo.getRouteChanged());
-    if (navInfo.getDistanceToCurrentStepMeters() != null)
-      map.putInt("distanceToCurrentStepMeters", navInfo.getDistanceToCurrentStepMeters());
-    if (navInfo.getDistanceToFinalDestinationMeters() != null)
-      map.putInt("distanceToFinalDestinationMeters", navInfo.getDistanceToFinalDestinationMeters());
-    if (navInfo.getDistanceToNextDestinationMeters() != null)
-      map.putInt("distanceToNextDestinationMeters", navInfo.getDistanceToNextDestinationMeters());
-    if (navInfo.getTimeToCurrentStepSeconds() != null)
-      map.putInt("timeToCurrentStepSeconds", navInfo.getTimeToCurrentStepSeconds());
-    if (navInfo.getTimeToFinalDestinationSeconds() != null)
-      map.putInt("timeToFinalDestinationSeconds", navInfo.getTimeToFinalDestinationSeconds());
-    if (navInfo.getTimeToNextDestinationSeconds() != null)
-      map.putInt("timeToNextDestinationSeconds", navInfo.getTimeToNextDestinationSeconds());
-    if (navInfo.getCurrentStep() != null)
-      map.putMap("currentStep", ObjectTranslationUtil.getMapFromStepInfo(navInfo.getCurrentStep()));
-
-    WritableArray remainingSteps = Arguments.createArray();
-    if (navInfo.getRemainingSteps() != null) {
-      for (StepInfo info : navInfo.getRemainingSteps()) {
-        remainingSteps.pushMap(ObjectTranslationUtil.getMapFromStepInfo(info));
-      }
-    }
-    map.putArray("getRemainingSteps", remainingSteps);
-
     WritableNativeArray params = new WritableNativeArray();
-    params.pushMap(map);
+    params.pushMap(mTurnByTurnEncoder.encode(navInfo));
     sendCommandToReactNative("onTurnByTurn", params);
   }
 
@@ -842,6 +1117,17 @@ public class NavModule extends ReactContextBaseJavaModule
   @Override
   public void onHostDestroy() {}
 
+  @Override
+  public void invalidate() {
+    // The module instance outlives the React context, so the threads it started are stopped here
+    // and started again on first use after a reload.
+    mEventQueue.shutdown();
+    // Chunks discarded with the queue are not resent, so the next chunk starts from the beginning.
+    mTraveledPathCursor = 0;
+    mLocationFlushHandler.removeCallbacksAndMessages(null);
+    super.invalidate();
+  }
+
   private interface IRouteStatusResult {
     void onResult(Navigator.RouteStatus code);
   }
@@ -78,7 +78,7 @@ public class NavViewFragment extends SupportNavigationFragment
             mGoogleMap = googleMap;
 
             mMapViewController = new MapViewController();
-            mMapViewController.initialize(googleMap, () -> requireActivity());
+            mMapViewController.initialize(googleMap);
 
             // Setup map listeners with the provided callback
             mMapViewController.setupMapListeners(NavViewFragment.this);
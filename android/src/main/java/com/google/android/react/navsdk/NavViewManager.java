@@ -16,8 +16,7 @@ package com.google.android.react.navsdk;
 import static com.google.android.react.navsdk.Command.*;
 import static com.google.android.react.navsdk.EnumTranslationUtil.getFragmentTypeFromJsValue;
 
-import android.view.Choreographer;
-import android.view.View;
+import android.util.Log;
 import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
@@ -26,11 +25,11 @@ import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentActivity;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.common.MapBuilder;
 import com.facebook.react.uimanager.SimpleViewManager;
 import com.facebook.react.uimanager.ThemedReactContext;
 import com.google.android.gms.maps.GoogleMap;
-import java.lang.ref.WeakReference;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -41,10 +40,19 @@ import java.util.Objects;
 public class NavViewManager extends SimpleViewManager<FrameLayout> {
 
   public static final String REACT_CLASS = "NavViewManager";
+  private static final String TAG = "NavViewManager";
 
   private static NavViewManager instance;
 
-  private final HashMap<Integer, WeakReference<IMapViewFragment>> fragmentMap = new HashMap<>();
+  /** Applies a view command to the fragment hosted by the view. */
+  private interface CommandHandler {
+    void execute(IMapViewFragment fragment, ReadableArray args);
+  }
+
+  /** Handlers of the commands that act on an existing fragment, indexed by command value. */
+  private static final CommandHandler[] COMMAND_HANDLERS = createCommandHandlers();
+
+  private final FragmentRegistry fragmentRegistry = new FragmentRegistry();
 
   private ReactApplicationContext reactContext;
 
@@ -69,7 +77,7 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
   /** Return a FrameLayout which will later hold the Fragment */
   @Override
   public FrameLayout createViewInstance(ThemedReactContext reactContext) {
-    return new FrameLayout(reactContext);
+    return new MapViewContainer(reactContext);
   }
 
   /** Map the "create" command to an integer */
@@ -77,49 +85,9 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
   @Override
   public Map<String, Integer> getCommandsMap() {
     Map<String, Integer> map = new HashMap<>();
-    map.put(CREATE_FRAGMENT.toString(), CREATE_FRAGMENT.getValue());
-    map.put(MOVE_CAMERA.toString(), MOVE_CAMERA.getValue());
-    map.put(SET_TRIP_PROGRESS_BAR_ENABLED.toString(), SET_TRIP_PROGRESS_BAR_ENABLED.getValue());
-    map.put(SET_NAVIGATION_UI_ENABLED.toString(), SET_NAVIGATION_UI_ENABLED.getValue());
-    map.put(SET_FOLLOWING_PERSPECTIVE.toString(), SET_FOLLOWING_PERSPECTIVE.getValue());
-    map.put(SET_NIGHT_MODE.toString(), SET_NIGHT_MODE.getValue());
-    map.put(DELETE_FRAGMENT.toString(), DELETE_FRAGMENT.getValue());
-    map.put(SET_SPEEDOMETER_ENABLED.toString(), SET_SPEEDOMETER_ENABLED.getValue());
-    map.put(SET_SPEED_LIMIT_ICON_ENABLED.toString(), SET_SPEED_LIMIT_ICON_ENABLED.getValue());
-    map.put(SET_ZOOM_LEVEL.toString(), SET_ZOOM_LEVEL.getValue());
-    map.put(SET_INDOOR_ENABLED.toString(), SET_INDOOR_ENABLED.getValue());
-    map.put(SET_TRAFFIC_ENABLED.toString(), SET_TRAFFIC_ENABLED.getValue());
-    map.put(SET_COMPASS_ENABLED.toString(), SET_COMPASS_ENABLED.getValue());
-    map.put(SET_MY_LOCATION_BUTTON_ENABLED.toString(), SET_MY_LOCATION_BUTTON_ENABLED.getValue());
-    map.put(SET_MY_LOCATION_ENABLED.toString(), SET_MY_LOCATION_ENABLED.getValue());
-    map.put(SET_ROTATE_GESTURES_ENABLED.toString(), SET_ROTATE_GESTURES_ENABLED.getValue());
-    map.put(SET_SCROLL_GESTURES_ENABLED.toString(), SET_SCROLL_GESTURES_ENABLED.getValue());
-    map.put(
-        SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM.toString(),
-        SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM.getValue());
-    map.put(SET_ZOOM_CONTROLS_ENABLED.toString(), SET_ZOOM_CONTROLS_ENABLED.getValue());
-    map.put(SET_TILT_GESTURES_ENABLED.toString(), SET_TILT_GESTURES_ENABLED.getValue());
-    map.put(SET_ZOOM_GESTURES_ENABLED.toString(), SET_ZOOM_GESTURES_ENABLED.getValue());
-    map.put(SET_BUILDINGS_ENABLED.toString(), SET_BUILDINGS_ENABLED.getValue());
-    map.put(SET_MAP_TYPE.toString(), SET_MAP_TYPE.getValue());
-    map.put(SET_MAP_TOOLBAR_ENABLED.toString(), SET_MAP_TOOLBAR_ENABLED.getValue());
-    map.put(CLEAR_MAP_VIEW.toString(), CLEAR_MAP_VIEW.getValue());
-    map.put(RESET_MIN_MAX_ZOOM_LEVEL.toString(), RESET_MIN_MAX_ZOOM_LEVEL.getValue());
-    map.put(SET_MAP_STYLE.toString(), SET_MAP_STYLE.getValue());
-    map.put(ANIMATE_CAMERA.toString(), ANIMATE_CAMERA.getValue());
-    map.put(
-        SET_TRAFFIC_INCIDENT_CARDS_ENABLED.toString(),
-        SET_TRAFFIC_INCIDENT_CARDS_ENABLED.getValue());
-    map.put(SET_RECENTER_BUTTON_ENABLED.toString(), SET_RECENTER_BUTTON_ENABLED.getValue());
-    map.put(SHOW_ROUTE_OVERVIEW.toString(), SHOW_ROUTE_OVERVIEW.getValue());
-    map.put(REMOVE_MARKER.toString(), REMOVE_MARKER.getValue());
-    map.put(REMOVE_POLYLINE.toString(), REMOVE_POLYLINE.getValue());
-    map.put(REMOVE_POLYGON.toString(), REMOVE_POLYGON.getValue());
-    map.put(REMOVE_CIRCLE.toString(), REMOVE_CIRCLE.getValue());
-    map.put(REMOVE_GROUND_OVERLAY.toString(), REMOVE_GROUND_OVERLAY.getValue());
-    map.put(SET_HEADER_ENABLED.toString(), SET_HEADER_ENABLED.getValue());
-    map.put(SET_FOOTER_ENABLED.toString(), SET_FOOTER_ENABLED.getValue());
-    map.put(SET_PADDING.toString(), SET_PADDING.getValue());
+    for (Command command : Command.values()) {
+      map.put(command.toString(), command.getValue());
+    }
     return map;
   }
 
@@ -140,26 +108,29 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
   }
 
   public IMapViewFragment getFragmentForViewId(int viewId) {
-    WeakReference<IMapViewFragment> weakReference = fragmentMap.get(viewId);
-    if (weakReference == null || weakReference.get() == null) {
+    IMapViewFragment fragment = fragmentRegistry.get(viewId);
+    if (fragment == null) {
       throw new IllegalStateException("Fragment not found for the provided viewId.");
     }
-    return weakReference.get();
+    return fragment;
   }
 
   public IMapViewFragment getAnyFragment() {
-    if (fragmentMap.isEmpty()) {
-      return null;
-    }
-    // Return the first fragment found in the map's values collection.
-    return fragmentMap.values().iterator().next().get();
+    return fragmentRegistry.getAny();
+  }
+
+  public IMapViewFragment getAnyFragment(CustomTypes.FragmentType fragmentType) {
+    return fragmentRegistry.getAny(fragmentType);
+  }
+
+  /** Returns the number of registered map and navigation views, for leak monitoring. */
+  public Map<String, Object> getFragmentStats() {
+    return fragmentRegistry.getStats();
   }
 
   public void applyStylingOptions() {
-    for (WeakReference<IMapViewFragment> weakReference : fragmentMap.values()) {
-      if (weakReference.get() != null) {
-        weakReference.get().applyStylingOptions();
-      }
+    for (IMapViewFragment fragment : fragmentRegistry.getAll()) {
+      fragment.applyStylingOptions();
     }
   }
 
@@ -167,19 +138,24 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
   public void receiveCommand(
       @NonNull FrameLayout root, String commandId, @Nullable ReadableArray args) {
     super.receiveCommand(root, commandId, args);
-    int commandIdInt = Integer.parseInt(commandId);
+    Command command = Command.find(Integer.parseInt(commandId));
+    if (command == null) {
+      return;
+    }
 
-    switch (Command.find(commandIdInt)) {
+    switch (command) {
       case CREATE_FRAGMENT:
-        Map<String, Object> stylingOptions = args.getMap(0).toHashMap();
         CustomTypes.FragmentType fragmentType = getFragmentTypeFromJsValue(args.getInt(1));
-        createFragment(root, stylingOptions, fragmentType);
+        createFragment(root, args.getMap(0), fragmentType);
         break;
       case DELETE_FRAGMENT:
+        if (root instanceof MapViewContainer) {
+          ((MapViewContainer) root).cancelLayout();
+        }
         try {
           int viewId = root.getId();
           FragmentActivity activity = (FragmentActivity) reactContext.getCurrentActivity();
-          IMapViewFragment fragment = Objects.requireNonNull(fragmentMap.remove(viewId)).get();
+          IMapViewFragment fragment = Objects.requireNonNull(fragmentRegistry.remove(viewId));
           activity
               .getSupportFragmentManager()
               .beginTransaction()
@@ -188,124 +164,251 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
         } catch (Exception ignored) {
         }
         break;
-      case MOVE_CAMERA:
-        getFragmentForRoot(root).getMapController().moveCamera(args.getMap(0).toHashMap());
-        break;
-      case SET_TRIP_PROGRESS_BAR_ENABLED:
-        getNavFragmentForRoot(root).setTripProgressBarEnabled(args.getBoolean(0));
-        break;
-      case SET_NAVIGATION_UI_ENABLED:
-        getNavFragmentForRoot(root).setNavigationUiEnabled(args.getBoolean(0));
-        break;
-      case SET_FOLLOWING_PERSPECTIVE:
-        getNavFragmentForRoot(root).getMapController().setFollowingPerspective(args.getInt(0));
-        break;
-      case SET_NIGHT_MODE:
-        getNavFragmentForRoot(root).setNightModeOption(args.getInt(0));
-        break;
-      case SET_SPEEDOMETER_ENABLED:
-        getNavFragmentForRoot(root).setSpeedometerEnabled(args.getBoolean(0));
-        break;
-      case SET_SPEED_LIMIT_ICON_ENABLED:
-        getNavFragmentForRoot(root).setSpeedLimitIconEnabled(args.getBoolean(0));
-        break;
-      case SET_ZOOM_LEVEL:
-        int level = args.getInt(0);
-        getFragmentForRoot(root).getMapController().setZoomLevel(level);
-        break;
-      case SET_INDOOR_ENABLED:
-        getFragmentForRoot(root).getMapController().setIndoorEnabled(args.getBoolean(0));
-        break;
-      case SET_TRAFFIC_ENABLED:
-        getFragmentForRoot(root).getMapController().setTrafficEnabled(args.getBoolean(0));
-        break;
-      case SET_COMPASS_ENABLED:
-        getFragmentForRoot(root).getMapController().setCompassEnabled(args.getBoolean(0));
-        break;
-      case SET_MY_LOCATION_BUTTON_ENABLED:
-        getFragmentForRoot(root).getMapController().setCompassEnabled(args.getBoolean(0));
-        break;
-      case SET_MY_LOCATION_ENABLED:
-        getFragmentForRoot(root).getMapController().setMyLocationEnabled(args.getBoolean(0));
-        break;
-      case SET_ROTATE_GESTURES_ENABLED:
-        getFragmentForRoot(root).getMapController().setRotateGesturesEnabled(args.getBoolean(0));
-        break;
-      case SET_SCROLL_GESTURES_ENABLED:
-        getFragmentForRoot(root).getMapController().setScrollGesturesEnabled(args.getBoolean(0));
-        break;
-      case SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM:
-        getFragmentForRoot(root)
-            .getMapController()
-            .setScrollGesturesEnabledDuringRotateOrZoom(args.getBoolean(0));
-        break;
-      case SET_TILT_GESTURES_ENABLED:
-        getFragmentForRoot(root).getMapController().setTiltGesturesEnabled(args.getBoolean(0));
-        break;
-      case SET_ZOOM_CONTROLS_ENABLED:
-        getFragmentForRoot(root).getMapController().setZoomControlsEnabled(args.getBoolean(0));
-        break;
-      case SET_ZOOM_GESTURES_ENABLED:
-        getFragmentForRoot(root).getMapController().setZoomGesturesEnabled(args.getBoolean(0));
-        break;
-      case SET_BUILDINGS_ENABLED:
-        getFragmentForRoot(root).getMapController().setBuildingsEnabled(args.getBoolean(0));
-        break;
-      case SET_MAP_TYPE:
-        getFragmentForRoot(root).getMapController().setMapType(args.getInt(0));
-        break;
-      case SET_MAP_TOOLBAR_ENABLED:
-        getFragmentForRoot(root).getMapController().setMapToolbarEnabled(args.getBoolean(0));
-        break;
-      case CLEAR_MAP_VIEW:
-        getFragmentForRoot(root).getMapController().clearMapView();
-        break;
-      case RESET_MIN_MAX_ZOOM_LEVEL:
-        getFragmentForRoot(root).getMapController().resetMinMaxZoomLevel();
-        break;
-      case SET_MAP_STYLE:
-        getFragmentForRoot(root).setMapStyle(args.getString(0));
-        break;
-      case ANIMATE_CAMERA:
-        getFragmentForRoot(root).getMapController().animateCamera(args.getMap(0).toHashMap());
+      case EXECUTE_COMMANDS:
+        executeCommands(getFragmentForRoot(root), args.getArray(0));
         break;
-      case SET_TRAFFIC_INCIDENT_CARDS_ENABLED:
-        getNavFragmentForRoot(root).setTrafficIncidentCardsEnabled(args.getBoolean(0));
+      default:
+        getCommandHandler(command).execute(getFragmentForRoot(root), args);
         break;
-      case SET_FOOTER_ENABLED:
-        getNavFragmentForRoot(root).setEtaCardEnabled(args.getBoolean(0));
-        break;
-      case SET_HEADER_ENABLED:
-        getNavFragmentForRoot(root).setHeaderEnabled(args.getBoolean(0));
-        break;
-      case SET_RECENTER_BUTTON_ENABLED:
-        getNavFragmentForRoot(root).setRecenterButtonEnabled(args.getBoolean(0));
-        break;
-      case SHOW_ROUTE_OVERVIEW:
-        getNavFragmentForRoot(root).showRouteOverview();
-        break;
-      case REMOVE_MARKER:
-        getFragmentForRoot(root).getMapController().removeMarker(args.getString(0));
-        break;
-      case REMOVE_POLYLINE:
-        getFragmentForRoot(root).getMapController().removePolyline(args.getString(0));
-        break;
-      case REMOVE_POLYGON:
-        getFragmentForRoot(root).getMapController().removePolygon(args.getString(0));
-        break;
-      case REMOVE_CIRCLE:
-        getFragmentForRoot(root).getMapController().removeCircle(args.getString(0));
-        break;
-      case REMOVE_GROUND_OVERLAY:
-        getFragmentForRoot(root).getMapController().removeGroundOverlay(args.getString(0));
-        break;
-      case SET_PADDING:
-        getFragmentForRoot(root)
-            .getMapController()
-            .setPadding(args.getInt(0), args.getInt(1), args.getInt(2), args.getInt(3));
     }
   }
 
+  /**
+   * Applies a batch of commands to the fragment in a single UI pass. Each entry is an array holding
+   * the command value followed by an array of its arguments. The batch is checked up front and
+   * dropped as a whole if any command cannot be batched, so it is never applied halfway.
+   */
+  private void executeCommands(IMapViewFragment fragment, ReadableArray commands) {
+    CommandHandler[] handlers = new CommandHandler[commands.size()];
+    for (int i = 0; i < commands.size(); i++) {
+      int value = commands.getArray(i).getInt(0);
+      Command command = Command.find(value);
+      handlers[i] = command != null ? COMMAND_HANDLERS[command.getValue()] : null;
+      if (handlers[i] == null) {
+        Log.w(TAG, "Dropping command batch, command cannot be batched: " + value);
+        return;
+      }
+    }
+    for (int i = 0; i < commands.size(); i++) {
+      handlers[i].execute(fragment, commands.getArray(i).getArray(1));
+    }
+  }
+
+  private static CommandHandler getCommandHandler(Command command) {
+    CommandHandler handler = COMMAND_HANDLERS[command.getValue()];
+    if (handler == null) {
+      throw new IllegalStateException("No handler for command " + command);
+    }
+    return handler;
+  }
+
+  private static INavViewFragment asNavFragment(IMapViewFragment fragment) {
+    if (fragment instanceof INavViewFragment) {
+      return (INavViewFragment) fragment;
+    }
+    throw new IllegalStateException("The fragment is not a nav view fragment");
+  }
+
+  private static void putHandler(
+      CommandHandler[] handlers, Command command, CommandHandler handler) {
+    handlers[command.getValue()] = handler;
+  }
+
+  private static CommandHandler[] createCommandHandlers() {
+    CommandHandler[] handlers = new CommandHandler[Command.getMaxValue() + 1];
+    putHandler(
+        handlers,
+        MOVE_CAMERA,
+        (fragment, args) -> fragment.getMapController().moveCamera(args.getMap(0).toHashMap()));
+    putHandler(
+        handlers,
+        SET_TRIP_PROGRESS_BAR_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setTripProgressBarEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_NAVIGATION_UI_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setNavigationUiEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_FOLLOWING_PERSPECTIVE,
+        (fragment, args) ->
+            asNavFragment(fragment).getMapController().setFollowingPerspective(args.getInt(0)));
+    putHandler(
+        handlers,
+        SET_NIGHT_MODE,
+        (fragment, args) -> asNavFragment(fragment).setNightModeOption(args.getInt(0)));
+    putHandler(
+        handlers,
+        SET_SPEEDOMETER_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setSpeedometerEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_SPEED_LIMIT_ICON_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setSpeedLimitIconEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_ZOOM_LEVEL,
+        (fragment, args) -> fragment.getMapController().setZoomLevel(args.getInt(0)));
+    putHandler(
+        handlers,
+        SET_INDOOR_ENABLED,
+        (fragment, args) -> fragment.getMapController().setIndoorEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_TRAFFIC_ENABLED,
+        (fragment, args) -> fragment.getMapController().setTrafficEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_COMPASS_ENABLED,
+        (fragment, args) -> fragment.getMapController().setCompassEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_MY_LOCATION_BUTTON_ENABLED,
+        (fragment, args) ->
+            fragment.getMapController().setMyLocationButtonEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_MY_LOCATION_ENABLED,
+        (fragment, args) -> fragment.getMapController().setMyLocationEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_ROTATE_GESTURES_ENABLED,
+        (fragment, args) ->
+            fragment.getMapController().setRotateGesturesEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_SCROLL_GESTURES_ENABLED,
+        (fragment, args) ->
+            fragment.getMapController().setScrollGesturesEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_SCROLL_GESTURES_ENABLED_DURING_ROTATE_OR_ZOOM,
+        (fragment, args) ->
+            fragment
+                .getMapController()
+                .setScrollGesturesEnabledDuringRotateOrZoom(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_TILT_GESTURES_ENABLED,
+        (fragment, args) -> fragment.getMapController().setTiltGesturesEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_ZOOM_CONTROLS_ENABLED,
+        (fragment, args) -> fragment.getMapController().setZoomControlsEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_ZOOM_GESTURES_ENABLED,
+        (fragment, args) -> fragment.getMapController().setZoomGesturesEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_BUILDINGS_ENABLED,
+        (fragment, args) -> fragment.getMapController().setBuildingsEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_MAP_TYPE,
+        (fragment, args) -> fragment.getMapController().setMapType(args.getInt(0)));
+    putHandler(
+        handlers,
+        SET_MAP_TOOLBAR_ENABLED,
+        (fragment, args) -> fragment.getMapController().setMapToolbarEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers, CLEAR_MAP_VIEW, (fragment, args) -> fragment.getMapController().clearMapView());
+    putHandler(
+        handlers,
+        RESET_MIN_MAX_ZOOM_LEVEL,
+        (fragment, args) -> fragment.getMapController().resetMinMaxZoomLevel());
+    putHandler(
+        handlers, SET_MAP_STYLE, (fragment, args) -> fragment.setMapStyle(args.getString(0)));
+    putHandler(
+        handlers,
+        ANIMATE_CAMERA,
+        (fragment, args) -> fragment.getMapController().animateCamera(args.getMap(0).toHashMap()));
+    putHandler(
+        handlers,
+        SET_TRAFFIC_INCIDENT_CARDS_ENABLED,
+        (fragment, args) ->
+            asNavFragment(fragment).setTrafficIncidentCardsEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_FOOTER_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setEtaCardEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_HEADER_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setHeaderEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SET_RECENTER_BUTTON_ENABLED,
+        (fragment, args) -> asNavFragment(fragment).setRecenterButtonEnabled(args.getBoolean(0)));
+    putHandler(
+        handlers,
+        SHOW_ROUTE_OVERVIEW,
+        (fragment, args) -> asNavFragment(fragment).showRouteOverview());
+    putHandler(
+        handlers,
+        REMOVE_MARKER,
+        (fragment, args) -> fragment.getMapController().removeMarker(args.getString(0)));
+    putHandler(
+        handlers,
+        REMOVE_POLYLINE,
+        (fragment, args) -> fragment.getMapController().removePolyline(args.getString(0)));
+    putHandler(
+        handlers,
+        REMOVE_POLYGON,
+        (fragment, args) -> fragment.getMapController().removePolygon(args.getString(0)));
+    putHandler(
+        handlers,
+        REMOVE_CIRCLE,
+        (fragment, args) -> fragment.getMapController().removeCircle(args.getString(0)));
+    putHandler(
+        handlers,
+        REMOVE_GROUND_OVERLAY,
+        (fragment, args) -> fragment.getMapController().removeGroundOverlay(args.getString(0)));
+    putHandler(
+        handlers,
+        SET_PADDING,
+        (fragment, args) ->
+            fragment
+                .getMapController()
+                .setPadding(args.getInt(0), args.getInt(1), args.getInt(2), args.getInt(3)));
+    putHandler(
+        handlers,
+        REMOVE_LAYER,
+        (fragment, args) -> fragment.getMapController().removeLayer(args.getString(0)));
+    putHandler(
+        handlers,
+        SET_MARKER_CLUSTERING_OPTIONS,
+        (fragment, args) ->
+            fragment.getMapController().setMarkerClusteringOptions(args.getMap(0).toHashMap()));
+    putHandler(
+        handlers,
+        SET_OVERLAY_VIRTUALIZATION_OPTIONS,
+        (fragment, args) ->
+            fragment
+                .getMapController()
+                .setOverlayVirtualizationOptions(args.getMap(0).toHashMap()));
+    putHandler(
+        handlers,
+        SET_UI_SETTINGS,
+        (fragment, args) -> fragment.getMapController().setUiSettings(args.getMap(0).toHashMap()));
+    putHandler(
+        handlers,
+        UPDATE_MARKER,
+        (fragment, args) ->
+            fragment.getMapController().updateMarker(args.getString(0), args.getMap(1)));
+    putHandler(
+        handlers,
+        ANIMATE_MARKER_TO,
+        (fragment, args) ->
+            fragment
+                .getMapController()
+                .animateMarkerTo(
+                    args.getString(0),
+                    ReadableMapUtil.toLatLng(args.getMap(1)),
+                    (long) args.getDouble(2)));
+    return handlers;
+  }
+
   @Override
   public Map<String, Object> getExportedCustomDirectEventTypeConstants() {
     Map<String, Object> baseEventTypeConstants = super.getExportedCustomDirectEventTypeConstants();
@@ -336,9 +439,9 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
 
   /** Replace your React Native view with a custom fragment */
   public void createFragment(
-      FrameLayout root, Map stylingOptions, CustomTypes.FragmentType fragmentType) {
-    setupLayout(root);
-
+      FrameLayout root,
+      @Nullable ReadableMap stylingOptions,
+      CustomTypes.FragmentType fragmentType) {
     FragmentActivity activity = (FragmentActivity) reactContext.getCurrentActivity();
     if (activity != null) {
       int viewId = root.getId();
@@ -346,7 +449,7 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
       // FragmentType 0 = MAP, 1 = NAVIGATION.
       if (fragmentType == CustomTypes.FragmentType.MAP) {
         MapViewFragment mapFragment = new MapViewFragment(reactContext, root.getId());
-        fragmentMap.put(viewId, new WeakReference<IMapViewFragment>(mapFragment));
+        fragmentRegistry.put(viewId, CustomTypes.FragmentType.MAP, mapFragment);
         fragment = mapFragment;
 
         if (stylingOptions != null) {
@@ -354,7 +457,7 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
         }
       } else {
         NavViewFragment navFragment = new NavViewFragment(reactContext, root.getId());
-        fragmentMap.put(viewId, new WeakReference<IMapViewFragment>(navFragment));
+        fragmentRegistry.put(viewId, CustomTypes.FragmentType.NAVIGATION, navFragment);
         fragment = navFragment;
 
         if (stylingOptions != null) {
@@ -369,37 +472,6 @@ public class NavViewManager extends SimpleViewManager<FrameLayout> {
     }
   }
 
-  /**
-   * Set up the layout for each frame. This official RN way to do this, but a bit hacky, and should
-   * be changed when better solution is found.
-   */
-  public void setupLayout(FrameLayout view) {
-    Choreographer.getInstance()
-        .postFrameCallback(
-            new Choreographer.FrameCallback() {
-              @Override
-              public void doFrame(long frameTimeNanos) {
-                manuallyLayoutChildren(view);
-                view.getViewTreeObserver().dispatchOnGlobalLayout();
-                Choreographer.getInstance().postFrameCallback(this);
-              }
-            });
-  }
-
-  /** Layout all children properly */
-  public void manuallyLayoutChildren(FrameLayout view) {
-    IMapViewFragment fragment = getFragmentForRoot(view);
-    if (fragment.isAdded()) {
-      View childView = fragment.getView();
-      if (childView != null) {
-        childView.measure(
-            View.MeasureSpec.makeMeasureSpec(view.getMeasuredWidth(), View.MeasureSpec.EXACTLY),
-            View.MeasureSpec.makeMeasureSpec(view.getMeasuredHeight(), View.MeasureSpec.EXACTLY));
-        childView.layout(0, 0, childView.getMeasuredWidth(), childView.getMeasuredHeight());
-      }
-    }
-  }
-
   public GoogleMap getGoogleMap(int viewId) {
     try {
       return getFragmentForViewId(viewId).getGoogleMap();
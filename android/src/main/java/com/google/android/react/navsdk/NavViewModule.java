@@ -19,6 +19,7 @@ import com.facebook.react.bridge.Promise;
 import com.facebook.react.bridge.ReactApplicationContext;
 import com.facebook.react.bridge.ReactContextBaseJavaModule;
 import com.facebook.react.bridge.ReactMethod;
+import com.facebook.react.bridge.ReadableArray;
 import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.UiThreadUtil;
 import com.facebook.react.bridge.WritableMap;
@@ -28,9 +29,12 @@ import com.google.android.gms.maps.model.Circle;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
 import com.google.android.gms.maps.model.Polyline;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -161,11 +165,30 @@ public class NavViewModule extends ReactContextBaseJavaModule {
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) != null) {
-            Marker marker =
-                mNavViewManager
-                    .getFragmentForViewId(viewId)
-                    .getMapController()
-                    .addMarker(markerOptionsMap.toHashMap());
+            MapViewController mapController =
+                mNavViewManager.getFragmentForViewId(viewId).getMapController();
+            if (mapController.isMarkerClusteringEnabled()) {
+              MarkerClusterer.Item<MarkerOptions> item =
+                  mapController.addClusteredMarker(markerOptionsMap);
+              if (item == null) {
+                promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, "Marker position is missing");
+                return;
+              }
+              promise.resolve(
+                  ObjectTranslationUtil.getMapFromMarkerOptions(item.getId(), item.getPayload()));
+              return;
+            }
+            if (mapController.isOverlayVirtualizationEnabled()) {
+              OverlayVirtualizer.VirtualOverlay<MarkerOptions> overlay =
+                  mapController.addVirtualMarker(markerOptionsMap);
+              if (overlay == null) {
+                promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, "Marker position is missing");
+                return;
+              }
+              promise.resolve(ObjectTranslationUtil.getMapFromVirtualOverlay(overlay));
+              return;
+            }
+            Marker marker = mapController.addMarker(markerOptionsMap);
 
             promise.resolve(ObjectTranslationUtil.getMapFromMarker(marker));
           }
@@ -180,70 +203,204 @@ public class NavViewModule extends ReactContextBaseJavaModule {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polyline polyline =
+          MapViewController mapController =
+              mNavViewManager.getFragmentForViewId(viewId).getMapController();
+          try {
+            if (mapController.isOverlayVirtualizationEnabled()) {
+              promise.resolve(
+                  ObjectTranslationUtil.getMapFromVirtualOverlay(
+                      mapController.addVirtualPolyline(polylineOptionsMap)));
+              return;
+            }
+            Polyline polyline = mapController.addPolyline(polylineOptionsMap);
+
+            promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+          }
+        });
+  }
+
+  @ReactMethod
+  public void addPolygon(int viewId, ReadableMap polygonOptionsMap, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavViewManager.getGoogleMap(viewId) == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          MapViewController mapController =
+              mNavViewManager.getFragmentForViewId(viewId).getMapController();
+          try {
+            if (mapController.isOverlayVirtualizationEnabled()) {
+              promise.resolve(
+                  ObjectTranslationUtil.getMapFromVirtualOverlay(
+                      mapController.addVirtualPolygon(polygonOptionsMap)));
+              return;
+            }
+            Polygon polygon = mapController.addPolygon(polygonOptionsMap);
+
+            promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+          }
+        });
+  }
+
+  @ReactMethod
+  public void addCircle(int viewId, ReadableMap circleOptionsMap, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavViewManager.getGoogleMap(viewId) == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          MapViewController mapController =
+              mNavViewManager.getFragmentForViewId(viewId).getMapController();
+          if (mapController.isOverlayVirtualizationEnabled()) {
+            promise.resolve(
+                ObjectTranslationUtil.getMapFromVirtualOverlay(
+                    mapController.addVirtualCircle(circleOptionsMap.toHashMap())));
+            return;
+          }
+          Circle circle = mapController.addCircle(circleOptionsMap.toHashMap());
+
+          promise.resolve(ObjectTranslationUtil.getMapFromCircle(circle));
+        });
+  }
+
+  @ReactMethod
+  public void addGroundOverlay(int viewId, ReadableMap overlayOptionsMap, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavViewManager.getGoogleMap(viewId) == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          GroundOverlay overlay =
               mNavViewManager
                   .getFragmentForViewId(viewId)
                   .getMapController()
-                  .addPolyline(polylineOptionsMap.toHashMap());
+                  .addGroundOverlay(overlayOptionsMap.toHashMap());
 
-          promise.resolve(ObjectTranslationUtil.getMapFromPolyline(polyline));
+          promise.resolve(ObjectTranslationUtil.getMapFromGroundOverlay(overlay));
         });
   }
 
   @ReactMethod
-  public void addPolygon(int viewId, ReadableMap polygonOptionsMap, final Promise promise) {
+  public void addMarkers(int viewId, ReadableArray optionsArray, final Promise promise) {
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Polygon polygon =
+          List<String> ids =
               mNavViewManager
                   .getFragmentForViewId(viewId)
                   .getMapController()
-                  .addPolygon(polygonOptionsMap.toHashMap());
+                  .addMarkers(optionsArray);
 
-          promise.resolve(ObjectTranslationUtil.getMapFromPolygon(polygon));
+          promise.resolve(Arguments.fromList(ids));
         });
   }
 
   @ReactMethod
-  public void addCircle(int viewId, ReadableMap circleOptionsMap, final Promise promise) {
+  public void addPolylines(int viewId, ReadableArray optionsArray, final Promise promise) {
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          Circle circle =
+          List<String> ids =
               mNavViewManager
                   .getFragmentForViewId(viewId)
                   .getMapController()
-                  .addCircle(circleOptionsMap.toHashMap());
+                  .addPolylines(optionsArray);
 
-          promise.resolve(ObjectTranslationUtil.getMapFromCircle(circle));
+          promise.resolve(Arguments.fromList(ids));
         });
   }
 
   @ReactMethod
-  public void addGroundOverlay(int viewId, ReadableMap overlayOptionsMap, final Promise promise) {
+  public void addCircles(int viewId, ReadableArray optionsArray, final Promise promise) {
     UiThreadUtil.runOnUiThread(
         () -> {
           if (mNavViewManager.getGoogleMap(viewId) == null) {
             promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
             return;
           }
-          GroundOverlay overlay =
+          List<String> ids =
               mNavViewManager
                   .getFragmentForViewId(viewId)
                   .getMapController()
-                  .addGroundOverlay(overlayOptionsMap.toHashMap());
+                  .addCircles(optionsArray.toArrayList());
 
-          promise.resolve(ObjectTranslationUtil.getMapFromGroundOverlay(overlay));
+          promise.resolve(Arguments.fromList(ids));
+        });
+  }
+
+  @ReactMethod
+  public void removeOverlays(int viewId, ReadableArray ids, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavViewManager.getGoogleMap(viewId) == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          mNavViewManager
+              .getFragmentForViewId(viewId)
+              .getMapController()
+              .removeOverlays(ids.toArrayList());
+
+          promise.resolve(null);
         });
   }
 
+  @ReactMethod
+  public void setOverlays(
+      int viewId, String layerId, ReadableArray descriptors, final Promise promise) {
+    UiThreadUtil.runOnUiThread(
+        () -> {
+          if (mNavViewManager.getGoogleMap(viewId) == null) {
+            promise.reject(JsErrors.NO_MAP_ERROR_CODE, JsErrors.NO_MAP_ERROR_MESSAGE);
+            return;
+          }
+          Map<String, Object> result;
+          try {
+            result =
+                mNavViewManager
+                    .getFragmentForViewId(viewId)
+                    .getMapController()
+                    .setOverlays(layerId, descriptors);
+          } catch (IllegalArgumentException e) {
+            promise.reject(JsErrors.INVALID_OVERLAY_ERROR_CODE, e.getMessage());
+            return;
+          }
+          promise.resolve(Arguments.makeNativeMap(result));
+        });
+  }
+
+  @ReactMethod
+  public void getIconCacheStats(final Promise promise) {
+    promise.resolve(Arguments.makeNativeMap(BitmapDescriptorCache.getInstance().getStats()));
+  }
+
+  @ReactMethod
+  public void getMapViewStats(final Promise promise) {
+    promise.resolve(Arguments.makeNativeMap(mNavViewManager.getFragmentStats()));
+  }
+
+  @ReactMethod
+  public void prefetchMapStyles(ReadableArray urls, final Promise promise) {
+    List<String> urlList = new ArrayList<>(urls.size());
+    for (int i = 0; i < urls.size(); i++) {
+      urlList.add(urls.getString(i));
+    }
+    MapStyleManager.getInstance().prefetch(urlList, () -> promise.resolve(null));
+  }
+
   @Override
   public boolean canOverrideExistingModule() {
     return true;
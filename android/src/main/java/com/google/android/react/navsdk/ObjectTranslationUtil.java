@@ -16,14 +16,19 @@ package com.google.android.react.navsdk;
 import android.location.Location;
 import android.os.Build;
 import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReadableMap;
 import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.model.Circle;
+import com.google.android.gms.maps.model.CircleOptions;
 import com.google.android.gms.maps.model.GroundOverlay;
 import com.google.android.gms.maps.model.LatLng;
 import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
 import com.google.android.gms.maps.model.Polygon;
+import com.google.android.gms.maps.model.PolygonOptions;
 import com.google.android.gms.maps.model.Polyline;
+import com.google.android.gms.maps.model.PolylineOptions;
 import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
 import com.google.android.libraries.navigation.AlternateRoutesStrategy;
 import com.google.android.libraries.navigation.DisplayOptions;
@@ -72,6 +77,67 @@ public class ObjectTranslationUtil {
     return parentMap;
   }
 
+  /**
+   * Same as {@link #getMapFromRouteSegment} but with the coordinates packed by {@link
+   * #getCompactMapFromPath} and the traffic stretches as parallel arrays.
+   */
+  public static WritableMap getCompactMapFromRouteSegment(
+      RouteSegment routeSegment, boolean encoded) {
+    WritableMap parentMap = Arguments.createMap();
+    parentMap.putMap("destinationLatLng", getMapFromLatLng(routeSegment.getDestinationLatLng()));
+    parentMap.putMap(
+        "destinationWaypoint", getMapFromWaypoint(routeSegment.getDestinationWaypoint()));
+    parentMap.putMap("path", getCompactMapFromPath(routeSegment.getLatLngs(), encoded));
+
+    List<NavigationRoadStretchRenderingData> stretches =
+        routeSegment.getTrafficData().getRoadStretchRenderingDataList();
+    WritableArray offsetsArr = Arguments.createArray();
+    WritableArray lengthsArr = Arguments.createArray();
+    WritableArray stylesArr = Arguments.createArray();
+    for (NavigationRoadStretchRenderingData data : stretches) {
+      offsetsArr.pushInt(data.getOffsetMeters());
+      lengthsArr.pushInt(data.getLengthMeters());
+      stylesArr.pushInt(EnumTranslationUtil.getJsValueFromRoadStretchStyle(data.getStyle()));
+    }
+
+    WritableMap mapTrafficData = Arguments.createMap();
+    mapTrafficData.putArray("offsetsMeters", offsetsArr);
+    mapTrafficData.putArray("lengthsMeters", lengthsArr);
+    mapTrafficData.putArray("styles", stylesArr);
+    mapTrafficData.putString("status", routeSegment.getTrafficData().getStatus().name());
+    parentMap.putMap("navigationTrafficData", mapTrafficData);
+
+    return parentMap;
+  }
+
+  /**
+   * Returns the points either as an {@code encodedPoints} Google encoded polyline string or as a
+   * {@code flatPoints} array of alternating latitudes and longitudes, along with {@code
+   * pointCount}. Both forms are accepted as polyline options.
+   */
+  public static WritableMap getCompactMapFromPath(List<LatLng> points, boolean encoded) {
+    return getCompactMapFromPath(points, 0, points.size(), encoded);
+  }
+
+  /** Same as {@link #getCompactMapFromPath(List, boolean)} for the points in {@code [from, to)}. */
+  public static WritableMap getCompactMapFromPath(
+      List<LatLng> points, int from, int to, boolean encoded) {
+    WritableMap map = Arguments.createMap();
+    if (encoded) {
+      map.putString("encodedPoints", PolylineCodec.encode(points, from, to));
+    } else {
+      WritableArray flatArr = Arguments.createArray();
+      for (int i = from; i < to; i++) {
+        LatLng point = points.get(i);
+        flatArr.pushDouble(point.latitude);
+        flatArr.pushDouble(point.longitude);
+      }
+      map.putArray("flatPoints", flatArr);
+    }
+    map.putInt("pointCount", to - from);
+    return map;
+  }
+
   public static WritableMap getMapFromLatLng(LatLng latLng) {
     WritableMap map = Arguments.createMap();
     map.putDouble("lat", latLng.latitude);
@@ -106,52 +172,52 @@ public class ObjectTranslationUtil {
     return map;
   }
 
-  public static DisplayOptions getDisplayOptionsFromMap(Map map) {
+  public static DisplayOptions getDisplayOptionsFromMap(ReadableMap map) {
     DisplayOptions options = new DisplayOptions();
 
-    if (map.containsKey("showDestinationMarkers")) {
-      options.hideDestinationMarkers(!CollectionUtil.getBool("showDestinationMarkers", map, true));
+    if (map.hasKey("showDestinationMarkers")) {
+      options.hideDestinationMarkers(!ReadableMapUtil.getBool("showDestinationMarkers", map, true));
     }
 
-    if (map.containsKey("showStopSigns")) {
-      options.showStopSigns(CollectionUtil.getBool("showStopSigns", map, false));
+    if (map.hasKey("showStopSigns")) {
+      options.showStopSigns(ReadableMapUtil.getBool("showStopSigns", map, false));
     }
 
-    if (map.containsKey("showTrafficLights")) {
-      options.showTrafficLights(CollectionUtil.getBool("showTrafficLights", map, false));
+    if (map.hasKey("showTrafficLights")) {
+      options.showTrafficLights(ReadableMapUtil.getBool("showTrafficLights", map, false));
     }
 
     return options;
   }
 
-  public static RoutingOptions getRoutingOptionsFromMap(Map map) {
+  public static RoutingOptions getRoutingOptionsFromMap(ReadableMap map) {
     RoutingOptions options = new RoutingOptions();
 
-    if (map.containsKey("avoidTolls")) {
-      options.avoidTolls(CollectionUtil.getBool("avoidTolls", map, false));
+    if (map.hasKey("avoidTolls")) {
+      options.avoidTolls(ReadableMapUtil.getBool("avoidTolls", map, false));
     }
 
-    if (map.containsKey("avoidHighways")) {
-      options.avoidHighways(CollectionUtil.getBool("avoidHighways", map, false));
+    if (map.hasKey("avoidHighways")) {
+      options.avoidHighways(ReadableMapUtil.getBool("avoidHighways", map, false));
     }
 
-    if (map.containsKey("avoidFerries")) {
-      options.avoidFerries(CollectionUtil.getBool("avoidFerries", map, true));
+    if (map.hasKey("avoidFerries")) {
+      options.avoidFerries(ReadableMapUtil.getBool("avoidFerries", map, true));
     }
 
-    if (map.containsKey("travelMode")) {
+    if (map.hasKey("travelMode")) {
       options.travelMode(
-          CollectionUtil.getInt("travelMode", map, RoutingOptions.TravelMode.DRIVING));
+          ReadableMapUtil.getInt("travelMode", map, RoutingOptions.TravelMode.DRIVING));
     }
 
-    if (map.containsKey("routingStrategy")) {
+    if (map.hasKey("routingStrategy")) {
       options.routingStrategy(
-          CollectionUtil.getInt(
+          ReadableMapUtil.getInt(
               "routingStrategy", map, RoutingOptions.RoutingStrategy.DEFAULT_BEST));
     }
 
-    if (map.containsKey("alternateRoutesStrategy")) {
-      int routesStrategyJsValue = CollectionUtil.getInt("alternateRoutesStrategy", map, -1);
+    if (map.hasKey("alternateRoutesStrategy")) {
+      int routesStrategyJsValue = ReadableMapUtil.getInt("alternateRoutesStrategy", map, -1);
 
       AlternateRoutesStrategy routeStrategy =
           EnumTranslationUtil.getAlternateRoutesStrategyFromJsValue(routesStrategyJsValue);
@@ -229,7 +295,7 @@ public class ObjectTranslationUtil {
     WritableMap map = Arguments.createMap();
 
     map.putMap("position", getMapFromLatLng(marker.getPosition()));
-    map.putString("id", marker.getId());
+    map.putString("id", getOverlayId(marker.getTag(), marker.getId()));
     map.putString("title", marker.getTitle());
     map.putDouble("alpha", marker.getAlpha());
     map.putDouble("rotation", marker.getRotation());
@@ -239,11 +305,100 @@ public class ObjectTranslationUtil {
     return map;
   }
 
+  public static WritableMap getMapFromMarkerOptions(String id, MarkerOptions options) {
+    WritableMap map = Arguments.createMap();
+
+    map.putMap("position", getMapFromLatLng(options.getPosition()));
+    map.putString("id", id);
+    map.putString("title", options.getTitle());
+    map.putDouble("alpha", options.getAlpha());
+    map.putDouble("rotation", options.getRotation());
+    map.putString("snippet", options.getSnippet());
+    map.putDouble("zIndex", options.getZIndex());
+
+    return map;
+  }
+
+  public static WritableMap getMapFromVirtualOverlay(OverlayVirtualizer.VirtualOverlay<?> overlay) {
+    switch (overlay.getType()) {
+      case MARKER:
+        return getMapFromMarkerOptions(overlay.getId(), (MarkerOptions) overlay.getOptions());
+      case POLYLINE:
+        return getMapFromPolylineOptions(overlay.getId(), (PolylineOptions) overlay.getOptions());
+      case POLYGON:
+        return getMapFromPolygonOptions(overlay.getId(), (PolygonOptions) overlay.getOptions());
+      case CIRCLE:
+      default:
+        return getMapFromCircleOptions(overlay.getId(), (CircleOptions) overlay.getOptions());
+    }
+  }
+
+  public static WritableMap getMapFromCircleOptions(String id, CircleOptions options) {
+    WritableMap map = Arguments.createMap();
+    map.putMap("center", ObjectTranslationUtil.getMapFromLatLng(options.getCenter()));
+
+    map.putString("id", id);
+    map.putInt("fillColor", options.getFillColor());
+    map.putDouble("strokeWidth", options.getStrokeWidth());
+    map.putInt("strokeColor", options.getStrokeColor());
+    map.putDouble("radius", options.getRadius());
+    map.putDouble("zIndex", options.getZIndex());
+
+    return map;
+  }
+
+  public static WritableMap getMapFromPolylineOptions(String id, PolylineOptions options) {
+    WritableMap map = Arguments.createMap();
+    WritableArray pointsArr = Arguments.createArray();
+
+    for (LatLng point : options.getPoints()) {
+      pointsArr.pushMap(ObjectTranslationUtil.getMapFromLatLng(point));
+    }
+    map.putArray("points", pointsArr);
+
+    map.putString("id", id);
+    map.putInt("color", options.getColor());
+    map.putDouble("width", options.getWidth());
+    map.putInt("jointType", options.getJointType());
+    map.putDouble("zIndex", options.getZIndex());
+
+    return map;
+  }
+
+  public static WritableMap getMapFromPolygonOptions(String id, PolygonOptions options) {
+    WritableMap map = Arguments.createMap();
+    WritableArray pointsArr = Arguments.createArray();
+    for (LatLng point : options.getPoints()) {
+      pointsArr.pushMap(ObjectTranslationUtil.getMapFromLatLng(point));
+    }
+    map.putArray("points", pointsArr);
+
+    WritableArray holesArr = Arguments.createArray();
+    for (List<LatLng> hole : options.getHoles()) {
+      WritableArray holeArr = Arguments.createArray();
+      for (LatLng point : hole) {
+        holeArr.pushMap(ObjectTranslationUtil.getMapFromLatLng(point));
+      }
+      holesArr.pushArray(holeArr);
+    }
+    map.putArray("holes", holesArr);
+
+    map.putString("id", id);
+    map.putInt("fillColor", options.getFillColor());
+    map.putDouble("strokeWidth", options.getStrokeWidth());
+    map.putInt("strokeColor", options.getStrokeColor());
+    map.putInt("strokeJointType", options.getStrokeJointType());
+    map.putDouble("zIndex", options.getZIndex());
+    map.putBoolean("geodesic", options.isGeodesic());
+
+    return map;
+  }
+
   public static WritableMap getMapFromCircle(Circle circle) {
     WritableMap map = Arguments.createMap();
     map.putMap("center", ObjectTranslationUtil.getMapFromLatLng(circle.getCenter()));
 
-    map.putString("id", circle.getId());
+    map.putString("id", getOverlayId(circle.getTag(), circle.getId()));
     map.putInt("fillColor", circle.getFillColor());
     map.putDouble("strokeWidth", circle.getStrokeWidth());
     map.putInt("strokeColor", circle.getStrokeColor());
@@ -262,7 +417,7 @@ public class ObjectTranslationUtil {
     }
     map.putArray("points", pointsArr);
 
-    map.putString("id", polyline.getId());
+    map.putString("id", getOverlayId(polyline.getTag(), polyline.getId()));
     map.putInt("color", polyline.getColor());
     map.putDouble("width", polyline.getWidth());
     map.putInt("jointType", polyline.getJointType());
@@ -293,7 +448,7 @@ public class ObjectTranslationUtil {
     }
     map.putArray("holes", holesArr);
 
-    map.putString("id", polygon.getId());
+    map.putString("id", getOverlayId(polygon.getTag(), polygon.getId()));
     map.putInt("fillColor", polygon.getFillColor());
     map.putDouble("strokeWidth", polygon.getStrokeWidth());
     map.putInt("strokeColor", polygon.getStrokeColor());
@@ -303,4 +458,9 @@ public class ObjectTranslationUtil {
 
     return map;
   }
+
+  /** Overlays managed by the clusterer or virtualizer carry their stable id in the tag. */
+  private static String getOverlayId(Object tag, String nativeId) {
+    return tag instanceof String ? (String) tag : nativeId;
+  }
 }
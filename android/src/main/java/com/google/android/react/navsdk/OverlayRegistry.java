@@ -0,0 +1,126 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Id-keyed store for map overlays of a single type, with an optional secondary index by layer id.
+ * Lookup, insertion and removal by id are constant time. Instances are not thread-safe and are
+ * expected to be accessed from the UI thread only.
+ */
+public class OverlayRegistry<T> {
+  private final Map<String, T> overlays = new LinkedHashMap<>();
+  private final Map<String, String> layerById = new HashMap<>();
+  private final Map<String, Set<String>> idsByLayer = new HashMap<>();
+
+  /**
+   * Stores the overlay under the given id, replacing any overlay previously registered with it.
+   * Returns the replaced overlay, if any.
+   */
+  @Nullable
+  public T put(String id, T overlay, @Nullable String layerId) {
+    T previous = remove(id);
+    overlays.put(id, overlay);
+    if (layerId != null) {
+      layerById.put(id, layerId);
+      Set<String> ids = idsByLayer.get(layerId);
+      if (ids == null) {
+        ids = new LinkedHashSet<>();
+        idsByLayer.put(layerId, ids);
+      }
+      ids.add(id);
+    }
+    return previous;
+  }
+
+  @Nullable
+  public T get(String id) {
+    return overlays.get(id);
+  }
+
+  public boolean contains(String id) {
+    return overlays.containsKey(id);
+  }
+
+  @Nullable
+  public String getLayerId(String id) {
+    return layerById.get(id);
+  }
+
+  /** Unregisters the overlay with the given id and returns it, or null if it is not registered. */
+  @Nullable
+  public T remove(String id) {
+    T overlay = overlays.remove(id);
+    if (overlay == null) {
+      return null;
+    }
+    String layerId = layerById.remove(id);
+    if (layerId != null) {
+      Set<String> ids = idsByLayer.get(layerId);
+      if (ids != null) {
+        ids.remove(id);
+        if (ids.isEmpty()) {
+          idsByLayer.remove(layerId);
+        }
+      }
+    }
+    return overlay;
+  }
+
+  /** Unregisters every overlay in the given layer and returns them. */
+  public List<T> removeLayer(String layerId) {
+    Set<String> ids = idsByLayer.remove(layerId);
+    if (ids == null) {
+      return Collections.emptyList();
+    }
+    List<T> removed = new ArrayList<>(ids.size());
+    for (String id : ids) {
+      layerById.remove(id);
+      T overlay = overlays.remove(id);
+      if (overlay != null) {
+        removed.add(overlay);
+      }
+    }
+    return removed;
+  }
+
+  public Set<String> getIdsInLayer(String layerId) {
+    Set<String> ids = idsByLayer.get(layerId);
+    return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+  }
+
+  public Collection<T> values() {
+    return Collections.unmodifiableCollection(overlays.values());
+  }
+
+  public int size() {
+    return overlays.size();
+  }
+
+  public void clear() {
+    overlays.clear();
+    layerById.clear();
+    idsByLayer.clear();
+  }
+}
@@ -0,0 +1,280 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.google.android.gms.maps.GoogleMap;
+import com.google.android.gms.maps.model.Circle;
+import com.google.android.gms.maps.model.CircleOptions;
+import com.google.android.gms.maps.model.LatLng;
+import com.google.android.gms.maps.model.Marker;
+import com.google.android.gms.maps.model.MarkerOptions;
+import com.google.android.gms.maps.model.Polygon;
+import com.google.android.gms.maps.model.PolygonOptions;
+import com.google.android.gms.maps.model.Polyline;
+import com.google.android.gms.maps.model.PolylineOptions;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps overlay options in a spatial index and only adds the overlays intersecting the visible
+ * region (plus a margin) to the map. Overlays are released once they are well outside the margin,
+ * so small camera moves do not churn native objects. Must be used from the UI thread.
+ */
+public class OverlayVirtualizer {
+  private static final double CELL_SIZE_DEGREES = 0.25;
+  private static final double METERS_PER_DEGREE_LAT = 111320;
+
+  public enum Type {
+    MARKER("vm"),
+    POLYLINE("vpl"),
+    POLYGON("vpg"),
+    CIRCLE("vci");
+
+    private final String idPrefix;
+
+    Type(String idPrefix) {
+      this.idPrefix = idPrefix;
+    }
+  }
+
+  public static final class VirtualOverlay<O> {
+    private final String id;
+    private final Type type;
+    private final O options;
+    private final GeoBounds bounds;
+    @Nullable private Object rendered;
+
+    VirtualOverlay(String id, Type type, O options, GeoBounds bounds) {
+      this.id = id;
+      this.type = type;
+      this.options = options;
+      this.bounds = bounds;
+    }
+
+    public String getId() {
+      return id;
+    }
+
+    public Type getType() {
+      return type;
+    }
+
+    public O getOptions() {
+      return options;
+    }
+
+    /** Returns the native overlay while it is on the map, or null. */
+    @Nullable
+    public Object getRendered() {
+      return rendered;
+    }
+  }
+
+  private final GoogleMap mGoogleMap;
+  private final OverlayRegistry<VirtualOverlay<?>> overlays = new OverlayRegistry<>();
+  private final SpatialGridIndex<VirtualOverlay<?>> index =
+      new SpatialGridIndex<>(CELL_SIZE_DEGREES);
+  private final Set<VirtualOverlay<?>> materialized = new LinkedHashSet<>();
+  private double margin = 0.5;
+  private int nextId = 0;
+
+  public OverlayVirtualizer(GoogleMap googleMap) {
+    this.mGoogleMap = googleMap;
+  }
+
+  /** Sets the margin around the visible region, as a fraction of its size. */
+  public void setMargin(double margin) {
+    this.margin = Math.max(0, margin);
+  }
+
+  /** Adds a marker. The options must have a position. */
+  public VirtualOverlay<MarkerOptions> addMarker(MarkerOptions options, @Nullable String layerId) {
+    LatLng position = options.getPosition();
+    GeoBounds bounds =
+        new GeoBounds(position.latitude, position.longitude, position.latitude, position.longitude);
+    return add(Type.MARKER, options, bounds, layerId);
+  }
+
+  public VirtualOverlay<PolylineOptions> addPolyline(
+      PolylineOptions options, @Nullable String layerId) {
+    return add(Type.POLYLINE, options, getBounds(options.getPoints()), layerId);
+  }
+
+  public VirtualOverlay<PolygonOptions> addPolygon(
+      PolygonOptions options, @Nullable String layerId) {
+    return add(Type.POLYGON, options, getBounds(options.getPoints()), layerId);
+  }
+
+  public VirtualOverlay<CircleOptions> addCircle(CircleOptions options, @Nullable String layerId) {
+    LatLng center = options.getCenter();
+    double latDelta = options.getRadius() / METERS_PER_DEGREE_LAT;
+    double lngDelta =
+        Math.min(180, latDelta / Math.max(0.01, Math.cos(Math.toRadians(center.latitude))));
+    GeoBounds bounds =
+        new GeoBounds(
+            Math.max(-90, center.latitude - latDelta),
+            GeoBounds.wrapLongitude(center.longitude - lngDelta),
+            Math.min(90, center.latitude + latDelta),
+            GeoBounds.wrapLongitude(center.longitude + lngDelta));
+    return add(Type.CIRCLE, options, bounds, layerId);
+  }
+
+  private <O> VirtualOverlay<O> add(
+      Type type, O options, GeoBounds bounds, @Nullable String layerId) {
+    VirtualOverlay<O> overlay =
+        new VirtualOverlay<>(type.idPrefix + nextId++, type, options, bounds);
+    overlays.put(overlay.id, overlay, layerId);
+    index.put(overlay.id, bounds, overlay);
+    return overlay;
+  }
+
+  public boolean contains(String id) {
+    return overlays.contains(id);
+  }
+
+  @Nullable
+  public String getLayerId(String id) {
+    return overlays.getLayerId(id);
+  }
+
+  public boolean remove(String id) {
+    VirtualOverlay<?> overlay = overlays.remove(id);
+    if (overlay == null) {
+      return false;
+    }
+    index.remove(id);
+    release(overlay);
+    return true;
+  }
+
+  public boolean removeLayer(String layerId) {
+    List<VirtualOverlay<?>> removed = overlays.removeLayer(layerId);
+    for (VirtualOverlay<?> overlay : removed) {
+      index.remove(overlay.id);
+      release(overlay);
+    }
+    return !removed.isEmpty();
+  }
+
+  /** Returns every overlay, whether or not it is currently on the map. */
+  public Collection<VirtualOverlay<?>> getOverlays() {
+    return overlays.values();
+  }
+
+  public int getMaterializedCount() {
+    return materialized.size();
+  }
+
+  /** Forgets every overlay without touching the map, for use after {@link GoogleMap#clear()}. */
+  public void clear() {
+    for (VirtualOverlay<?> overlay : materialized) {
+      overlay.rendered = null;
+    }
+    materialized.clear();
+    overlays.clear();
+    index.clear();
+  }
+
+  /** Adds the overlays near the visible region to the map and releases the distant ones. */
+  public void render(GeoBounds visibleBounds) {
+    Set<VirtualOverlay<?>> wanted = index.query(visibleBounds.expand(margin));
+    GeoBounds keepBounds = visibleBounds.expand(margin * 2 + 0.5);
+
+    Iterator<VirtualOverlay<?>> iterator = materialized.iterator();
+    while (iterator.hasNext()) {
+      VirtualOverlay<?> overlay = iterator.next();
+      if (!wanted.contains(overlay) && !overlay.bounds.intersects(keepBounds)) {
+        removeRendered(overlay.rendered);
+        overlay.rendered = null;
+        iterator.remove();
+      }
+    }
+
+    for (VirtualOverlay<?> overlay : wanted) {
+      materialize(overlay);
+    }
+  }
+
+  /** Adds the overlay to the map if it is not already on it, and returns the native overlay. */
+  public Object materialize(VirtualOverlay<?> overlay) {
+    if (overlay.rendered == null) {
+      overlay.rendered = createNativeOverlay(overlay);
+      materialized.add(overlay);
+    }
+    return overlay.rendered;
+  }
+
+  private Object createNativeOverlay(VirtualOverlay<?> overlay) {
+    switch (overlay.type) {
+      case MARKER:
+        Marker marker = mGoogleMap.addMarker((MarkerOptions) overlay.options);
+        marker.setTag(overlay.id);
+        return marker;
+      case POLYLINE:
+        Polyline polyline = mGoogleMap.addPolyline((PolylineOptions) overlay.options);
+        polyline.setTag(overlay.id);
+        return polyline;
+      case POLYGON:
+        Polygon polygon = mGoogleMap.addPolygon((PolygonOptions) overlay.options);
+        polygon.setTag(overlay.id);
+        return polygon;
+      case CIRCLE:
+      default:
+        Circle circle = mGoogleMap.addCircle((CircleOptions) overlay.options);
+        circle.setTag(overlay.id);
+        return circle;
+    }
+  }
+
+  private void release(VirtualOverlay<?> overlay) {
+    if (overlay.rendered != null) {
+      removeRendered(overlay.rendered);
+      overlay.rendered = null;
+      materialized.remove(overlay);
+    }
+  }
+
+  private static void removeRendered(Object rendered) {
+    if (rendered instanceof Marker) {
+      ((Marker) rendered).remove();
+    } else if (rendered instanceof Polyline) {
+      ((Polyline) rendered).remove();
+    } else if (rendered instanceof Polygon) {
+      ((Polygon) rendered).remove();
+    } else if (rendered instanceof Circle) {
+      ((Circle) rendered).remove();
+    }
+  }
+
+  private static GeoBounds getBounds(List<LatLng> points) {
+    if (points == null || points.isEmpty()) {
+      return new GeoBounds(0, 0, 0, 0);
+    }
+    double south = 90;
+    double north = -90;
+    double west = 180;
+    double east = -180;
+    for (LatLng point : points) {
+      south = Math.min(south, point.latitude);
+      north = Math.max(north, point.latitude);
+      west = Math.min(west, point.longitude);
+      east = Math.max(east, point.longitude);
+    }
+    return new GeoBounds(south, west, north, east);
+  }
+}
@@ -34,6 +34,7 @@ public class Package implements ReactPackage {
 
   @Override
   public List<NativeModule> createNativeModules(ReactApplicationContext reactContext) {
+    MapStyleManager.getInstance().initialize(reactContext);
     List<NativeModule> modules = new ArrayList<>();
     NavViewManager viewManager = NavViewManager.getInstance(reactContext);
     modules.add(NavModule.getInstance(reactContext, viewManager));
@@ -0,0 +1,95 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Google encoded polyline strings, the compact point list format used to move long paths across
+ * the bridge.
+ */
+public class PolylineCodec {
+  private static final double PRECISION = 1e5;
+
+  private PolylineCodec() {}
+
+  /** Decodes a Google encoded polyline string with 5 decimal precision. */
+  public static List<LatLng> decode(String encoded) {
+    int length = encoded.length();
+    // Every point takes at least two characters.
+    List<LatLng> points = new ArrayList<>(length / 2);
+    int index = 0;
+    int lat = 0;
+    int lng = 0;
+    while (index < length) {
+      int result = 0;
+      int shift = 0;
+      int b;
+      do {
+        b = encoded.charAt(index++) - 63;
+        result |= (b & 0x1f) << shift;
+        shift += 5;
+      } while (b >= 0x20 && index < length);
+      lat += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+      if (index >= length) {
+        throw new IllegalArgumentException("Truncated encoded polyline");
+      }
+
+      result = 0;
+      shift = 0;
+      do {
+        b = encoded.charAt(index++) - 63;
+        result |= (b & 0x1f) << shift;
+        shift += 5;
+      } while (b >= 0x20 && index < length);
+      lng += (result & 1) != 0 ? ~(result >> 1) : (result >> 1);
+
+      points.add(new LatLng(lat / PRECISION, lng / PRECISION));
+    }
+    return points;
+  }
+
+  /** Encodes the points as a Google encoded polyline string with 5 decimal precision. */
+  public static String encode(List<LatLng> points) {
+    return encode(points, 0, points.size());
+  }
+
+  /** Encodes the points in {@code [from, to)} as a Google encoded polyline string. */
+  public static String encode(List<LatLng> points, int from, int to) {
+    StringBuilder builder = new StringBuilder((to - from) * 8);
+    long lastLat = 0;
+    long lastLng = 0;
+    for (int i = from; i < to; i++) {
+      LatLng point = points.get(i);
+      long lat = Math.round(point.latitude * PRECISION);
+      long lng = Math.round(point.longitude * PRECISION);
+      encodeValue(lat - lastLat, builder);
+      encodeValue(lng - lastLng, builder);
+      lastLat = lat;
+      lastLng = lng;
+    }
+    return builder.toString();
+  }
+
+  private static void encodeValue(long value, StringBuilder builder) {
+    long shifted = value < 0 ? ~(value << 1) : value << 1;
+    while (shifted >= 0x20) {
+      builder.append((char) ((0x20 | (shifted & 0x1f)) + 63));
+      shifted >>= 5;
+    }
+    builder.append((char) (shifted + 63));
+  }
+}
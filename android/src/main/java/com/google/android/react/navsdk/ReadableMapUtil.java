@@ -0,0 +1,86 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableType;
+import com.google.android.gms.maps.model.LatLng;
+
+/**
+ * Typed readers for {@link ReadableMap} values, the counterpart of {@link CollectionUtil} that
+ * reads straight from the bridge map instead of a {@code toHashMap()} copy. Missing and null
+ * values fall back to the default.
+ */
+public class ReadableMapUtil {
+
+  public static boolean hasValue(String name, ReadableMap map) {
+    return map.hasKey(name) && !map.isNull(name);
+  }
+
+  public static int getInt(String name, ReadableMap map, int defaultValue) {
+    return hasValue(name, map) ? (int) map.getDouble(name) : defaultValue;
+  }
+
+  public static boolean getBool(String name, ReadableMap map, boolean defaultValue) {
+    return hasValue(name, map) ? map.getBoolean(name) : defaultValue;
+  }
+
+  public static double getDouble(String name, ReadableMap map, double defaultValue) {
+    return hasValue(name, map) ? map.getDouble(name) : defaultValue;
+  }
+
+  /** Returns the value as a string, converting numbers and booleans, or null if it is missing. */
+  @Nullable
+  public static String getString(String name, ReadableMap map) {
+    if (!hasValue(name, map)) {
+      return null;
+    }
+    ReadableType type = map.getType(name);
+    if (type == ReadableType.Number) {
+      return String.valueOf(map.getDouble(name));
+    }
+    if (type == ReadableType.Boolean) {
+      return String.valueOf(map.getBoolean(name));
+    }
+    return map.getString(name);
+  }
+
+  @Nullable
+  public static ReadableMap getMap(String name, ReadableMap map) {
+    return hasValue(name, map) ? map.getMap(name) : null;
+  }
+
+  @Nullable
+  public static ReadableArray getArray(String name, ReadableMap map) {
+    return hasValue(name, map) ? map.getArray(name) : null;
+  }
+
+  /** Reads a {@code {lat, lng}} object, or returns null if it or either coordinate is missing. */
+  @Nullable
+  public static LatLng getLatLng(String name, ReadableMap map) {
+    ReadableMap latLngMap = getMap(name, map);
+    return latLngMap != null ? toLatLng(latLngMap) : null;
+  }
+
+  @Nullable
+  public static LatLng toLatLng(ReadableMap map) {
+    if (!hasValue(Constants.LAT_FIELD_KEY, map) || !hasValue(Constants.LNG_FIELD_KEY, map)) {
+      return null;
+    }
+    return new LatLng(
+        map.getDouble(Constants.LAT_FIELD_KEY), map.getDouble(Constants.LNG_FIELD_KEY));
+  }
+}
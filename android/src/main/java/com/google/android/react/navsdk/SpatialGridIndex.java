@@ -0,0 +1,196 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Uniform lat/lng grid index over bounding boxes. Each entry is stored in every cell its bounds
+ * touch, except very large entries, which are kept in a separate set that every query checks. A
+ * query covering more cells than are populated, such as a zoomed out viewport, walks the populated
+ * cells instead of the covered ones.
+ *
+ * <p>This class has no Android dependencies and is not thread-safe.
+ */
+public class SpatialGridIndex<T> {
+  private static final int MAX_CELLS_PER_ENTRY = 256;
+
+  private final double cellSize;
+  private final int columns;
+  private final Map<Long, List<Entry<T>>> cells = new HashMap<>();
+  private final Map<String, Entry<T>> entries = new HashMap<>();
+  private final Set<Entry<T>> oversized = new LinkedHashSet<>();
+
+  private static final class Entry<T> {
+    final String id;
+    final GeoBounds bounds;
+    final T value;
+    final List<Long> cellKeys = new ArrayList<>();
+
+    Entry(String id, GeoBounds bounds, T value) {
+      this.id = id;
+      this.bounds = bounds;
+      this.value = value;
+    }
+  }
+
+  /** Creates an index with square cells of the given size in degrees. */
+  public SpatialGridIndex(double cellSizeDegrees) {
+    this.cellSize = cellSizeDegrees;
+    this.columns = (int) Math.ceil(360 / cellSizeDegrees);
+  }
+
+  public void put(String id, GeoBounds bounds, T value) {
+    remove(id);
+    Entry<T> entry = new Entry<>(id, bounds, value);
+    entries.put(id, entry);
+
+    int rowFrom = row(bounds.south);
+    int rowTo = row(bounds.north);
+    List<int[]> columnRanges = columnRanges(bounds);
+    long cellCount = 0;
+    for (int[] range : columnRanges) {
+      cellCount += (long) (range[1] - range[0] + 1) * (rowTo - rowFrom + 1);
+    }
+    if (cellCount > MAX_CELLS_PER_ENTRY) {
+      oversized.add(entry);
+      return;
+    }
+
+    for (int[] range : columnRanges) {
+      for (int column = range[0]; column <= range[1]; column++) {
+        for (int row = rowFrom; row <= rowTo; row++) {
+          long key = (long) row * columns + column;
+          List<Entry<T>> cell = cells.get(key);
+          if (cell == null) {
+            cell = new ArrayList<>();
+            cells.put(key, cell);
+          }
+          cell.add(entry);
+          entry.cellKeys.add(key);
+        }
+      }
+    }
+  }
+
+  public T remove(String id) {
+    Entry<T> entry = entries.remove(id);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.cellKeys.isEmpty()) {
+      oversized.remove(entry);
+    }
+    for (Long key : entry.cellKeys) {
+      List<Entry<T>> cell = cells.get(key);
+      if (cell != null) {
+        cell.remove(entry);
+        if (cell.isEmpty()) {
+          cells.remove(key);
+        }
+      }
+    }
+    return entry.value;
+  }
+
+  /** Returns the values whose bounds intersect the given bounds. */
+  public Set<T> query(GeoBounds bounds) {
+    Set<T> result = new LinkedHashSet<>();
+    for (Entry<T> entry : oversized) {
+      if (entry.bounds.intersects(bounds)) {
+        result.add(entry.value);
+      }
+    }
+
+    int rowFrom = row(bounds.south);
+    int rowTo = row(bounds.north);
+    List<int[]> columnRanges = columnRanges(bounds);
+    long cellCount = 0;
+    for (int[] range : columnRanges) {
+      cellCount += (long) (range[1] - range[0] + 1) * (rowTo - rowFrom + 1);
+    }
+
+    if (cellCount > cells.size()) {
+      for (Map.Entry<Long, List<Entry<T>>> cell : cells.entrySet()) {
+        long key = cell.getKey();
+        int row = (int) (key / columns);
+        int column = (int) (key % columns);
+        if (row >= rowFrom && row <= rowTo && inColumnRanges(columnRanges, column)) {
+          addIntersecting(cell.getValue(), bounds, result);
+        }
+      }
+      return result;
+    }
+
+    for (int[] range : columnRanges) {
+      for (int column = range[0]; column <= range[1]; column++) {
+        for (int row = rowFrom; row <= rowTo; row++) {
+          List<Entry<T>> cell = cells.get((long) row * columns + column);
+          if (cell != null) {
+            addIntersecting(cell, bounds, result);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  private static <T> void addIntersecting(List<Entry<T>> cell, GeoBounds bounds, Set<T> result) {
+    for (Entry<T> entry : cell) {
+      if (entry.bounds.intersects(bounds)) {
+        result.add(entry.value);
+      }
+    }
+  }
+
+  private static boolean inColumnRanges(List<int[]> columnRanges, int column) {
+    for (int[] range : columnRanges) {
+      if (column >= range[0] && column <= range[1]) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public void clear() {
+    cells.clear();
+    entries.clear();
+    oversized.clear();
+  }
+
+  private int row(double lat) {
+    return (int) Math.floor((Math.max(-90, Math.min(90, lat)) + 90) / cellSize);
+  }
+
+  private int column(double lng) {
+    return Math.min(columns - 1, (int) Math.floor((lng + 180) / cellSize));
+  }
+
+  private List<int[]> columnRanges(GeoBounds bounds) {
+    List<int[]> ranges = new ArrayList<>(2);
+    for (double[] lngRange : bounds.lngRanges()) {
+      ranges.add(new int[] {column(lngRange[0]), column(lngRange[1])});
+    }
+    return ranges;
+  }
+}
@@ -13,11 +13,21 @@
  */
 package com.google.android.react.navsdk;
 
-import android.graphics.Color;
+import android.util.LruCache;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.bridge.ReadableMapKeySetIterator;
+import com.facebook.react.bridge.ReadableType;
 import com.google.android.libraries.navigation.StylingOptions;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class StylingOptionsBuilder {
+  private static final int CACHE_SIZE = 8;
+
+  /** Parsed styling options keyed by the content of their option map. */
+  private static final LruCache<String, StylingOptions> cache = new LruCache<>(CACHE_SIZE);
+
   private StylingOptions mStylingOptions;
 
   private StylingOptionsBuilder(Builder builder) {
@@ -26,70 +36,104 @@ public class StylingOptionsBuilder {
 
   public static class Builder {
     private StylingOptions mStylingOptions;
-    private Map stylingOptions;
+    private ReadableMap stylingOptions;
 
-    public Builder(Map map) {
+    public Builder(ReadableMap map) {
       this.stylingOptions = map;
     }
 
-    private int parseColor(String color, Map map) {
-      return Color.parseColor(CollectionUtil.getString(color, map));
+    private int parseColor(String color, ReadableMap map) {
+      return ColorCache.parseColor(ReadableMapUtil.getString(color, map));
     }
 
+    /**
+     * Returns the styling options described by the map. Maps with the same content share a single
+     * parsed instance.
+     */
     public StylingOptions build() {
-      mStylingOptions = new StylingOptions();
-      if (stylingOptions.containsKey("primaryDayModeThemeColor"))
-        mStylingOptions.primaryDayModeThemeColor(
-            parseColor("primaryDayModeThemeColor", stylingOptions));
-      if (stylingOptions.containsKey("secondaryDayModeThemeColor"))
-        mStylingOptions.secondaryDayModeThemeColor(
+      String key = getCacheKey(stylingOptions);
+      mStylingOptions = cache.get(key);
+      if (mStylingOptions == null) {
+        mStylingOptions = parse();
+        cache.put(key, mStylingOptions);
+      }
+      return mStylingOptions;
+    }
+
+    private static String getCacheKey(ReadableMap map) {
+      List<String> names = new ArrayList<>();
+      ReadableMapKeySetIterator iterator = map.keySetIterator();
+      while (iterator.hasNextKey()) {
+        names.add(iterator.nextKey());
+      }
+      Collections.sort(names);
+
+      StringBuilder key = new StringBuilder();
+      for (String name : names) {
+        ReadableType type = map.getType(name);
+        key.append(name).append('=');
+        if (type == ReadableType.Map || type == ReadableType.Array) {
+          key.append(type);
+        } else {
+          key.append(ReadableMapUtil.getString(name, map));
+        }
+        key.append(';');
+      }
+      return key.toString();
+    }
+
+    private StylingOptions parse() {
+      StylingOptions options = new StylingOptions();
+      if (stylingOptions.hasKey("primaryDayModeThemeColor"))
+        options.primaryDayModeThemeColor(parseColor("primaryDayModeThemeColor", stylingOptions));
+      if (stylingOptions.hasKey("secondaryDayModeThemeColor"))
+        options.secondaryDayModeThemeColor(
             parseColor("secondaryDayModeThemeColor", stylingOptions));
-      if (stylingOptions.containsKey("primaryNightModeThemeColor"))
-        mStylingOptions.primaryNightModeThemeColor(
+      if (stylingOptions.hasKey("primaryNightModeThemeColor"))
+        options.primaryNightModeThemeColor(
             parseColor("primaryNightModeThemeColor", stylingOptions));
-      if (stylingOptions.containsKey("secondaryNightModeThemeColor"))
-        mStylingOptions.secondaryNightModeThemeColor(
+      if (stylingOptions.hasKey("secondaryNightModeThemeColor"))
+        options.secondaryNightModeThemeColor(
             parseColor("secondaryNightModeThemeColor", stylingOptions));
-      if (stylingOptions.containsKey("headerLargeManeuverIconColor"))
-        mStylingOptions.headerLargeManeuverIconColor(
+      if (stylingOptions.hasKey("headerLargeManeuverIconColor"))
+        options.headerLargeManeuverIconColor(
             parseColor("headerLargeManeuverIconColor", stylingOptions));
-      if (stylingOptions.containsKey("headerSmallManeuverIconColor"))
-        mStylingOptions.headerSmallManeuverIconColor(
+      if (stylingOptions.hasKey("headerSmallManeuverIconColor"))
+        options.headerSmallManeuverIconColor(
             parseColor("headerSmallManeuverIconColor", stylingOptions));
-      if (stylingOptions.containsKey("headerNextStepTextColor"))
-        mStylingOptions.headerNextStepTextColor(
-            parseColor("headerNextStepTextColor", stylingOptions));
-      if (stylingOptions.containsKey("headerDistanceValueTextColor"))
-        mStylingOptions.headerDistanceValueTextColor(
+      if (stylingOptions.hasKey("headerNextStepTextColor"))
+        options.headerNextStepTextColor(parseColor("headerNextStepTextColor", stylingOptions));
+      if (stylingOptions.hasKey("headerDistanceValueTextColor"))
+        options.headerDistanceValueTextColor(
             parseColor("headerDistanceValueTextColor", stylingOptions));
-      if (stylingOptions.containsKey("headerDistanceUnitsTextColor"))
-        mStylingOptions.headerDistanceUnitsTextColor(
+      if (stylingOptions.hasKey("headerDistanceUnitsTextColor"))
+        options.headerDistanceUnitsTextColor(
             parseColor("headerDistanceUnitsTextColor", stylingOptions));
-      if (stylingOptions.containsKey("headerInstructionsTextColor"))
-        mStylingOptions.headerInstructionsTextColor(
+      if (stylingOptions.hasKey("headerInstructionsTextColor"))
+        options.headerInstructionsTextColor(
             parseColor("headerInstructionsTextColor", stylingOptions));
-      if (stylingOptions.containsKey("headerGuidanceRecommendedLaneColor"))
-        mStylingOptions.headerGuidanceRecommendedLaneColor(
+      if (stylingOptions.hasKey("headerGuidanceRecommendedLaneColor"))
+        options.headerGuidanceRecommendedLaneColor(
             parseColor("headerGuidanceRecommendedLaneColor", stylingOptions));
-      if (stylingOptions.containsKey("headerNextStepTextSize"))
-        mStylingOptions.headerNextStepTextSize(
-            Float.parseFloat(CollectionUtil.getString("headerNextStepTextSize", stylingOptions)));
-      if (stylingOptions.containsKey("headerDistanceValueTextSize"))
-        mStylingOptions.headerDistanceValueTextSize(
+      if (stylingOptions.hasKey("headerNextStepTextSize"))
+        options.headerNextStepTextSize(
+            Float.parseFloat(ReadableMapUtil.getString("headerNextStepTextSize", stylingOptions)));
+      if (stylingOptions.hasKey("headerDistanceValueTextSize"))
+        options.headerDistanceValueTextSize(
             Float.parseFloat(
-                CollectionUtil.getString("headerDistanceValueTextSize", stylingOptions)));
-      if (stylingOptions.containsKey("headerDistanceUnitsTextSize"))
-        mStylingOptions.headerDistanceUnitsTextSize(
+                ReadableMapUtil.getString("headerDistanceValueTextSize", stylingOptions)));
+      if (stylingOptions.hasKey("headerDistanceUnitsTextSize"))
+        options.headerDistanceUnitsTextSize(
             Float.parseFloat(
-                CollectionUtil.getString("headerDistanceUnitsTextSize", stylingOptions)));
-      if (stylingOptions.containsKey("headerInstructionsFirstRowTextSize")) {
-        mStylingOptions.headerInstructionsFirstRowTextSize(
+                ReadableMapUtil.getString("headerDistanceUnitsTextSize", stylingOptions)));
+      if (stylingOptions.hasKey("headerInstructionsFirstRowTextSize")) {
+        options.headerInstructionsFirstRowTextSize(
             Float.parseFloat(
-                CollectionUtil.getString("headerInstructionsFirstRowTextSize", stylingOptions)));
+                ReadableMapUtil.getString("headerInstructionsFirstRowTextSize", stylingOptions)));
       }
-      if (stylingOptions.containsKey("headerInstructionsSecondRowTextSize"))
-        mStylingOptions.headerInstructionsSecondRowTextSize(20f);
-      return mStylingOptions;
+      if (stylingOptions.hasKey("headerInstructionsSecondRowTextSize"))
+        options.headerInstructionsSecondRowTextSize(20f);
+      return options;
     }
   }
 }
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import androidx.annotation.Nullable;
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Converts {@link NavInfo} updates into the payload of the {@code onTurnByTurn} event.
+ *
+ * <p>In full mode every payload holds all fields and steps. In delta mode the steps are sent once
+ * per route, identified by a route generation id, and each payload only holds the scalar fields
+ * that changed, null for cleared ones, and the current step number when it changed. Steps are
+ * sent again when a keyframe is emitted: on the first update, when the route changes and when JS
+ * requests one after missing a payload, which it detects through the sequence number.
+ */
+public class TurnByTurnEncoder {
+  private boolean deltaEncoding = false;
+  private boolean keyframeRequested = true;
+  private int routeGenerationId = 0;
+  private int sequence = 0;
+  private int lastSentStepNumber = -1;
+  @Nullable private Integer currentStepNumber;
+  private Map<String, Object> sentFields = new HashMap<>();
+
+  /** Switches between full and delta payloads. The next delta payload is a keyframe. */
+  public synchronized void setDeltaEncoding(boolean deltaEncoding) {
+    this.deltaEncoding = deltaEncoding;
+    keyframeRequested = true;
+  }
+
+  /** Makes the next delta payload a keyframe, holding every field and step. */
+  public synchronized void requestKeyframe() {
+    keyframeRequested = true;
+  }
+
+  public synchronized WritableMap encode(NavInfo navInfo) {
+    return deltaEncoding ? encodeDelta(navInfo) : encodeFull(navInfo);
+  }
+
+  private static WritableMap encodeFull(NavInfo navInfo) {
+    WritableMap map = Arguments.createMap();
+    for (Map.Entry<String, Object> field : getFields(navInfo).entrySet()) {
+      putField(map, field.getKey(), field.getValue());
+    }
+    if (navInfo.getCurrentStep() != null) {
+      map.putMap("currentStep", getMapFromStepInfo(navInfo.getCurrentStep()));
+    }
+
+    WritableArray remainingSteps = Arguments.createArray();
+    if (navInfo.getRemainingSteps() != null) {
+      for (StepInfo info : navInfo.getRemainingSteps()) {
+        remainingSteps.pushMap(getMapFromStepInfo(info));
+      }
+    }
+    map.putArray("getRemainingSteps", remainingSteps);
+    return map;
+  }
+
+  private WritableMap encodeDelta(NavInfo navInfo) {
+    boolean keyframe = keyframeRequested || navInfo.getRouteChanged();
+    if (navInfo.getRouteChanged()) {
+      routeGenerationId++;
+    }
+    if (keyframe) {
+      keyframeRequested = false;
+      lastSentStepNumber = -1;
+      currentStepNumber = null;
+      sentFields = new HashMap<>();
+    }
+
+    WritableMap map = Arguments.createMap();
+    map.putInt("routeGenerationId", routeGenerationId);
+    map.putInt("sequence", sequence++);
+    map.putBoolean("keyframe", keyframe);
+
+    Map<String, Object> fields = getFields(navInfo);
+    for (Map.Entry<String, Object> field : fields.entrySet()) {
+      if (!Objects.equals(field.getValue(), sentFields.get(field.getKey()))) {
+        putField(map, field.getKey(), field.getValue());
+      }
+    }
+    for (String name : sentFields.keySet()) {
+      if (!fields.containsKey(name)) {
+        map.putNull(name);
+      }
+    }
+    sentFields = fields;
+
+    StepInfo currentStep = navInfo.getCurrentStep();
+    Integer stepNumber = currentStep != null ? currentStep.getStepNumber() : null;
+    if (keyframe || !Objects.equals(stepNumber, currentStepNumber)) {
+      putField(map, "currentStepNumber", stepNumber);
+      currentStepNumber = stepNumber;
+    }
+
+    // The SDK only previews the next steps, so steps entering the window are sent as they appear.
+    WritableArray steps = Arguments.createArray();
+    if (currentStep != null) {
+      pushStepIfNew(steps, currentStep);
+    }
+    if (navInfo.getRemainingSteps() != null) {
+      for (StepInfo info : navInfo.getRemainingSteps()) {
+        pushStepIfNew(steps, info);
+      }
+    }
+    if (steps.size() > 0 || keyframe) {
+      map.putArray("steps", steps);
+    }
+    return map;
+  }
+
+  private void pushStepIfNew(WritableArray steps, StepInfo stepInfo) {
+    if (stepInfo.getStepNumber() > lastSentStepNumber) {
+      steps.pushMap(getMapFromStepInfo(stepInfo));
+      lastSentStepNumber = stepInfo.getStepNumber();
+    }
+  }
+
+  /** Adds the URI of the maneuver icon to the step when icon file export is enabled. */
+  private static WritableMap getMapFromStepInfo(StepInfo stepInfo) {
+    WritableMap map = ObjectTranslationUtil.getMapFromStepInfo(stepInfo);
+    String iconUri = ManeuverIconCache.getInstance().getIconUri(stepInfo);
+    if (iconUri != null) {
+      map.putString("maneuverIconUri", iconUri);
+    }
+    return map;
+  }
+
+  /** Returns the scalar fields of the update, leaving out the ones the SDK did not set. */
+  private static Map<String, Object> getFields(NavInfo navInfo) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("navState", navInfo.getNavState());
+    fields.put("routeChanged", navInfo.getRouteChanged());
+    putIfSet(fields, "distanceToCurrentStepMeters", navInfo.getDistanceToCurrentStepMeters());
+    putIfSet(
+        fields, "distanceToFinalDestinationMeters", navInfo.getDistanceToFinalDestinationMeters());
+    putIfSet(
+        fields, "distanceToNextDestinationMeters", navInfo.getDistanceToNextDestinationMeters());
+    putIfSet(fields, "timeToCurrentStepSeconds", navInfo.getTimeToCurrentStepSeconds());
+    putIfSet(fields, "timeToFinalDestinationSeconds", navInfo.getTimeToFinalDestinationSeconds());
+    putIfSet(fields, "timeToNextDestinationSeconds", navInfo.getTimeToNextDestinationSeconds());
+    return fields;
+  }
+
+  private static void putIfSet(Map<String, Object> fields, String name, @Nullable Integer value) {
+    if (value != null) {
+      fields.put(name, value);
+    }
+  }
+
+  private static void putField(WritableMap map, String name, @Nullable Object value) {
+    if (value instanceof Integer) {
+      map.putInt(name, (Integer) value);
+    } else if (value instanceof Boolean) {
+      map.putBoolean(name, (Boolean) value);
+    } else {
+      map.putNull(name);
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class GeoBoundsTest {
+  private static final GeoBounds BAY_AREA = new GeoBounds(37, -123, 38, -122);
+  // From 170E to 170W across the antimeridian.
+  private static final GeoBounds PACIFIC = new GeoBounds(-10, 170, 10, -170);
+
+  @Test
+  public void contains_checksLatAndLng() {
+    assertTrue(BAY_AREA.contains(37.5, -122.5));
+    assertFalse(BAY_AREA.contains(38.5, -122.5));
+    assertFalse(BAY_AREA.contains(37.5, -121.5));
+  }
+
+  @Test
+  public void contains_acrossAntimeridian() {
+    assertTrue(PACIFIC.crossesAntimeridian());
+    assertTrue(PACIFIC.contains(0, 175));
+    assertTrue(PACIFIC.contains(0, -175));
+    assertFalse(PACIFIC.contains(0, 0));
+  }
+
+  @Test
+  public void intersects_overlappingAndDisjointBounds() {
+    assertTrue(BAY_AREA.intersects(new GeoBounds(37.5, -122.5, 39, -121)));
+    assertTrue(BAY_AREA.intersects(new GeoBounds(36, -124, 39, -121)));
+    assertFalse(BAY_AREA.intersects(new GeoBounds(39, -123, 40, -122)));
+    assertFalse(BAY_AREA.intersects(new GeoBounds(37, -121, 38, -120)));
+  }
+
+  @Test
+  public void intersects_acrossAntimeridian() {
+    assertTrue(PACIFIC.intersects(new GeoBounds(-1, 175, 1, 179)));
+    assertTrue(PACIFIC.intersects(new GeoBounds(-1, -179, 1, -175)));
+    assertTrue(new GeoBounds(-1, -179, 1, -175).intersects(PACIFIC));
+    assertFalse(PACIFIC.intersects(BAY_AREA));
+  }
+
+  @Test
+  public void getLngSpan_acrossAntimeridian() {
+    assertEquals(1, BAY_AREA.getLngSpan(), 1e-9);
+    assertEquals(20, PACIFIC.getLngSpan(), 1e-9);
+  }
+
+  @Test
+  public void expand_growsEverySide() {
+    GeoBounds expanded = BAY_AREA.expand(0.5);
+
+    assertEquals(36.5, expanded.south, 1e-9);
+    assertEquals(38.5, expanded.north, 1e-9);
+    assertEquals(-123.5, expanded.west, 1e-9);
+    assertEquals(-121.5, expanded.east, 1e-9);
+  }
+
+  @Test
+  public void expand_clampsLatitudeAndWrapsLongitude() {
+    GeoBounds expanded = new GeoBounds(80, 175, 89, 179).expand(1);
+
+    assertEquals(90, expanded.north, 1e-9);
+    assertEquals(171, expanded.west, 1e-9);
+    assertEquals(-177, expanded.east, 1e-9);
+    assertTrue(expanded.crossesAntimeridian());
+  }
+
+  @Test
+  public void expand_toWholeWorld() {
+    GeoBounds expanded = new GeoBounds(0, -100, 10, 100).expand(1);
+
+    assertEquals(-180, expanded.west, 1e-9);
+    assertEquals(180, expanded.east, 1e-9);
+  }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JsEventQueueTest {
+  private static final String LOCATION = "onLocationChanged";
+  private static final String REMAINING = "onRemainingTimeOrDistanceChanged";
+  private static final String ARRIVAL = "onArrival";
+  private static final String PATH = "onTraveledPathUpdated";
+
+  private final List<String> delivered = new ArrayList<>();
+  private final CountDownLatch blocking = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+  private JsEventQueue queue;
+
+  @Before
+  public void setUp() {
+    queue =
+        new JsEventQueue(
+            (functionName, params) -> {
+              if (functionName.equals("block")) {
+                blocking.countDown();
+                awaitLatch(release);
+                return;
+              }
+              if (functionName.equals("fail")) {
+                throw new IllegalStateException("Bridge is gone");
+              }
+              synchronized (delivered) {
+                delivered.add(functionName);
+              }
+            },
+            new HashSet<>(Arrays.asList(LOCATION, REMAINING)));
+  }
+
+  @After
+  public void tearDown() {
+    release.countDown();
+    queue.shutdown();
+  }
+
+  @Test
+  public void enqueue_deliversEventsInOrder() throws Exception {
+    queue.enqueue(ARRIVAL, null);
+    queue.enqueue(LOCATION, null);
+    queue.enqueue(PATH, null);
+
+    awaitDispatched(3);
+    assertEquals(Arrays.asList(ARRIVAL, LOCATION, PATH), delivered());
+  }
+
+  @Test
+  public void dropOldest_dropsReplaceableEventsFirst() throws Exception {
+    queue.setCapacity(3);
+    blockDispatcher();
+
+    queue.enqueue(ARRIVAL, null);
+    queue.enqueue(LOCATION, null);
+    queue.enqueue(PATH, null);
+    // Drops the pending location, then the pending remaining time update.
+    queue.enqueue(REMAINING, null);
+    queue.enqueue(PATH, null);
+    // Nothing replaceable is pending, so the oldest event is dropped.
+    queue.enqueue(ARRIVAL, null);
+
+    Map<String, Object> metrics = queue.getMetrics();
+    assertEquals(3.0, metrics.get("droppedCount"));
+    assertEquals(3, metrics.get("depth"));
+
+    release.countDown();
+    awaitDispatched(4);
+    assertEquals(Arrays.asList(PATH, PATH, ARRIVAL), delivered());
+  }
+
+  @Test
+  public void coalesceByType_replacesPendingEventOfSameType() throws Exception {
+    queue.setCapacity(2);
+    queue.setOverflowPolicy(JsEventQueue.OverflowPolicy.COALESCE_BY_TYPE);
+    blockDispatcher();
+
+    queue.enqueue(LOCATION, null);
+    queue.enqueue(REMAINING, null);
+    queue.enqueue(LOCATION, null);
+    queue.enqueue(LOCATION, null);
+    // Not replaceable, so the oldest replaceable event is dropped instead.
+    queue.enqueue(ARRIVAL, null);
+
+    Map<String, Object> metrics = queue.getMetrics();
+    assertEquals(2.0, metrics.get("coalescedCount"));
+    assertEquals(1.0, metrics.get("droppedCount"));
+
+    release.countDown();
+    awaitDispatched(3);
+    assertEquals(Arrays.asList(LOCATION, ARRIVAL), delivered());
+  }
+
+  @Test
+  public void coalesceByType_dropsOtherEventsInsteadOfCoalescing() throws Exception {
+    queue.setCapacity(1);
+    queue.setOverflowPolicy(JsEventQueue.OverflowPolicy.COALESCE_BY_TYPE);
+    blockDispatcher();
+
+    queue.enqueue(PATH, null);
+    queue.enqueue(PATH, null);
+    queue.enqueue(PATH, null);
+
+    assertEquals(0.0, queue.getMetrics().get("coalescedCount"));
+    assertEquals(2.0, queue.getMetrics().get("droppedCount"));
+
+    release.countDown();
+    awaitDispatched(2);
+    assertEquals(Arrays.asList(PATH), delivered());
+  }
+
+  @Test
+  public void drain_keepsDispatchingAfterSendFails() throws Exception {
+    queue.enqueue("fail", null);
+    queue.enqueue(PATH, null);
+
+    awaitDelivered(1);
+    assertEquals(Arrays.asList(PATH), delivered());
+  }
+
+  @Test
+  public void shutdown_discardsPendingEventsAndRestartsOnEnqueue() throws Exception {
+    blockDispatcher();
+    queue.enqueue(ARRIVAL, null);
+
+    queue.shutdown();
+    assertEquals(0, queue.getMetrics().get("depth"));
+
+    queue.enqueue(PATH, null);
+    awaitDelivered(1);
+    assertEquals(Arrays.asList(PATH), delivered());
+  }
+
+  /** Keeps the dispatcher busy, so the following events stay pending. */
+  private void blockDispatcher() throws InterruptedException {
+    queue.enqueue("block", null);
+    assertTrue(blocking.await(5, TimeUnit.SECONDS));
+  }
+
+  private void awaitDispatched(long count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while ((double) queue.getMetrics().get("dispatchedCount") < count) {
+      assertTrue("Timed out waiting for events", System.currentTimeMillis() < deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  private void awaitDelivered(int count) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (delivered().size() < count) {
+      assertTrue("Timed out waiting for events", System.currentTimeMillis() < deadline);
+      Thread.sleep(5);
+    }
+  }
+
+  private List<String> delivered() {
+    synchronized (delivered) {
+      return new ArrayList<>(delivered);
+    }
+  }
+
+  private static void awaitLatch(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,170 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import android.location.Location;
+import java.util.List;
+import org.junit.Test;
+
+public class LocationThrottlerTest {
+  @Test
+  public void offer_withoutThrottlingDeliversEveryLocation() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 1, 1000);
+    Location first = at(0);
+    Location second = at(0);
+
+    assertDelivered(throttler.offer(first, 0), first);
+    assertDelivered(throttler.offer(second, 0), second);
+  }
+
+  @Test
+  public void offer_dropsLocationsWithinMinInterval() {
+    LocationThrottler throttler = new LocationThrottler(1000, 0, 1, 1000);
+    Location accepted = at(0);
+    Location next = at(10);
+
+    assertDelivered(throttler.offer(accepted, 0), accepted);
+    assertNull(throttler.offer(at(5), 999));
+    assertDelivered(throttler.offer(next, 1000), next);
+  }
+
+  @Test
+  public void offer_dropsLocationsWithinMinDistance() {
+    LocationThrottler throttler = new LocationThrottler(0, 50, 1, 1000);
+    Location accepted = at(0);
+    Location far = at(60);
+
+    assertDelivered(throttler.offer(accepted, 0), accepted);
+    assertNull(throttler.offer(at(49), 100));
+    assertDelivered(throttler.offer(far, 200), far);
+  }
+
+  @Test
+  public void offer_deliversFullBatch() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 3, 1000);
+    Location first = at(0);
+    Location second = at(1);
+    Location third = at(2);
+
+    assertNull(throttler.offer(first, 0));
+    assertNull(throttler.offer(second, 10));
+    assertDelivered(throttler.offer(third, 20), first, second, third);
+    assertNull(throttler.flush());
+  }
+
+  @Test
+  public void offer_deliversBatchOnceDueWhenLocationIsAccepted() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 10, 1000);
+    Location first = at(0);
+    Location second = at(1);
+
+    assertNull(throttler.offer(first, 0));
+    assertDelivered(throttler.offer(second, 1000), first, second);
+  }
+
+  @Test
+  public void offer_deliversBatchOnceDueWhenLocationIsDropped() {
+    LocationThrottler throttler = new LocationThrottler(0, 50, 10, 1000);
+    Location first = at(0);
+
+    assertNull(throttler.offer(first, 0));
+    assertNull(throttler.offer(at(1), 500));
+    // Too close to be accepted, but the pending batch has waited long enough.
+    assertDelivered(throttler.offer(at(2), 1000), first);
+    assertNull(throttler.offer(at(3), 2000));
+  }
+
+  @Test
+  public void scheduleFlush_returnsDelayUntilBatchIsDue() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 10, 1000);
+    assertEquals(-1, throttler.scheduleFlush(0));
+
+    throttler.offer(at(0), 100);
+
+    assertEquals(900, throttler.scheduleFlush(200));
+    // A flush is already scheduled.
+    assertEquals(-1, throttler.scheduleFlush(300));
+  }
+
+  @Test
+  public void runScheduledFlush_deliversDueBatch() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 10, 1000);
+    Location first = at(0);
+    Location second = at(1);
+    throttler.offer(first, 0);
+    throttler.offer(second, 400);
+    throttler.scheduleFlush(400);
+
+    assertDelivered(throttler.runScheduledFlush(1000), first, second);
+    assertEquals(-1, throttler.scheduleFlush(1000));
+  }
+
+  @Test
+  public void runScheduledFlush_reschedulesBatchStartedAfterScheduling() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 2, 1000);
+    throttler.offer(at(0), 0);
+    throttler.scheduleFlush(0);
+    // The batch fills up before the scheduled flush runs, and a new one starts.
+    throttler.offer(at(1), 100);
+    Location pending = at(2);
+    throttler.offer(pending, 600);
+
+    assertNull(throttler.runScheduledFlush(1000));
+    assertEquals(600, throttler.scheduleFlush(1000));
+    assertDelivered(throttler.runScheduledFlush(1600), pending);
+  }
+
+  @Test
+  public void flush_returnsPendingLocations() {
+    LocationThrottler throttler = new LocationThrottler(0, 0, 10, 1000);
+    Location first = at(0);
+    throttler.offer(first, 0);
+
+    assertDelivered(throttler.flush(), first);
+    assertNull(throttler.flush());
+  }
+
+  /** Checks the delivered locations by identity, as {@link Location#equals} is not available. */
+  private static void assertDelivered(List<Location> actual, Location... expected) {
+    assertNotNull(actual);
+    assertEquals(expected.length, actual.size());
+    for (int i = 0; i < expected.length; i++) {
+      assertSame(expected[i], actual.get(i));
+    }
+  }
+
+  /** Returns a location the given number of meters along a straight line. */
+  private static Location at(float meters) {
+    return new TestLocation(meters);
+  }
+
+  private static final class TestLocation extends Location {
+    private final float meters;
+
+    TestLocation(float meters) {
+      super("test");
+      this.meters = meters;
+    }
+
+    @Override
+    public float distanceTo(Location dest) {
+      return Math.abs(meters - ((TestLocation) dest).meters);
+    }
+  }
+}
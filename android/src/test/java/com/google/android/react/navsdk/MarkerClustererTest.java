@@ -0,0 +1,213 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+
+public class MarkerClustererTest {
+  private MarkerClusterer<String> clusterer;
+
+  @Before
+  public void setUp() {
+    clusterer = new MarkerClusterer<>();
+  }
+
+  @Test
+  public void getClusters_groupsNearbyItemsAtLowZoom() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    clusterer.add(item("c", 37.4222, -122.0843));
+
+    List<MarkerClusterer.Cluster<String>> clusters = clusterer.getClusters(5);
+
+    assertEquals(1, clusters.size());
+    assertEquals(3, clusters.get(0).getSize());
+    assertFalse(clusters.get(0).isSingleton());
+    assertEquals(37.4221, clusters.get(0).getLat(), 1e-3);
+    assertEquals(-122.0842, clusters.get(0).getLng(), 1e-3);
+  }
+
+  @Test
+  public void getClusters_splitsItemsAtHighZoom() {
+    clusterer.add(item("a", 37.42, -122.08));
+    clusterer.add(item("b", 37.43, -122.09));
+
+    List<MarkerClusterer.Cluster<String>> clusters = clusterer.getClusters(18);
+
+    assertEquals(2, clusters.size());
+    for (MarkerClusterer.Cluster<String> cluster : clusters) {
+      assertTrue(cluster.isSingleton());
+      assertEquals(cluster.getItems().get(0).getId(), cluster.getKey());
+    }
+  }
+
+  @Test
+  public void getClusters_returnsSingletonsBelowMinClusterSize() {
+    clusterer.setMinClusterSize(3);
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+
+    assertEquals(2, clusterer.getClusters(5).size());
+
+    clusterer.add(item("c", 37.4222, -122.0843));
+
+    assertEquals(1, clusterer.getClusters(5).size());
+  }
+
+  @Test
+  public void getClusters_filtersByBounds() {
+    clusterer.add(item("sf", 37.77, -122.42));
+    clusterer.add(item("nyc", 40.71, -74.01));
+
+    List<MarkerClusterer.Cluster<String>> clusters =
+        clusterer.getClusters(10, new GeoBounds(37, -123, 38, -122));
+
+    assertEquals(1, clusters.size());
+    assertEquals("sf", clusters.get(0).getKey());
+  }
+
+  @Test
+  public void add_updatesCachedZoomLevels() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.getClusters(5);
+    clusterer.getClusters(18);
+
+    clusterer.add(item("b", 37.4221, -122.0842));
+    clusterer.add(item("nyc", 40.71, -74.01));
+
+    assertSameClusters(rebuilt(), clusterer, 5);
+    assertSameClusters(rebuilt(), clusterer, 18);
+  }
+
+  @Test
+  public void remove_updatesCachedZoomLevels() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    clusterer.add(item("c", 37.4222, -122.0843));
+    assertEquals(1, clusterer.getClusters(5).size());
+
+    assertEquals("b", clusterer.remove("b").getPayload());
+    assertNull(clusterer.remove("b"));
+
+    assertSameClusters(rebuilt(), clusterer, 5);
+    clusterer.remove("a");
+    List<MarkerClusterer.Cluster<String>> clusters = clusterer.getClusters(5);
+    assertEquals(1, clusters.size());
+    assertEquals("c", clusters.get(0).getKey());
+  }
+
+  @Test
+  public void add_withExistingIdMovesTheItem() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    assertEquals(1, clusterer.getClusters(5).size());
+
+    clusterer.add(item("b", 40.71, -74.01));
+
+    assertEquals(2, clusterer.size());
+    assertSameClusters(rebuilt(), clusterer, 5);
+    assertEquals(2, clusterer.getClusters(5).size());
+  }
+
+  @Test
+  public void setMinClusterSize_rebuildsCachedClusters() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    assertEquals(1, clusterer.getClusters(5).size());
+
+    clusterer.setMinClusterSize(3);
+
+    assertEquals(2, clusterer.getClusters(5).size());
+  }
+
+  @Test
+  public void clusterItems_areNotChangedByLaterAdds() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    MarkerClusterer.Cluster<String> cluster = clusterer.getClusters(5).get(0);
+
+    clusterer.add(item("c", 37.4222, -122.0843));
+
+    assertEquals(2, cluster.getSize());
+    assertEquals(3, clusterer.getClusters(5).get(0).getSize());
+  }
+
+  @Test
+  public void getClusters_returnsNewClusterWhenMembersChangeAtSameSize() {
+    clusterer.add(item("a", 37.4220, -122.0841));
+    clusterer.add(item("b", 37.4221, -122.0842));
+    MarkerClusterer.Cluster<String> before = clusterer.getClusters(5).get(0);
+
+    clusterer.remove("b");
+    clusterer.add(item("c", 37.9000, -122.5000));
+    MarkerClusterer.Cluster<String> after = clusterer.getClusters(5).get(0);
+
+    // The key only reflects the cell and size, so the change shows in the cluster instance.
+    assertEquals(before.getKey(), after.getKey());
+    assertNotSame(before, after);
+    assertEquals(37.661, after.getLat(), 1e-3);
+    assertEquals("c", after.getItems().get(1).getId());
+  }
+
+  @Test
+  public void mercatorProjection_roundTrips() {
+    assertEquals(-122.0841, MarkerClusterer.xToLng(MarkerClusterer.lngToX(-122.0841)), 1e-9);
+    assertEquals(37.4220, MarkerClusterer.yToLat(MarkerClusterer.latToY(37.4220)), 1e-9);
+    assertEquals(0.5, MarkerClusterer.latToY(0), 1e-12);
+  }
+
+  private MarkerClusterer<String> rebuilt() {
+    MarkerClusterer<String> fresh = new MarkerClusterer<>();
+    fresh.setGridSize(clusterer.getGridSize());
+    fresh.setMinClusterSize(clusterer.getMinClusterSize());
+    for (MarkerClusterer.Item<String> item : clusterer.getItems()) {
+      fresh.add(item);
+    }
+    return fresh;
+  }
+
+  private static void assertSameClusters(
+      MarkerClusterer<String> expected, MarkerClusterer<String> actual, double zoom) {
+    assertEquals(sizesByKey(expected.getClusters(zoom)), sizesByKey(actual.getClusters(zoom)));
+  }
+
+  private static Map<String, Integer> sizesByKey(List<MarkerClusterer.Cluster<String>> clusters) {
+    Map<String, Integer> sizes = new HashMap<>();
+    for (MarkerClusterer.Cluster<String> cluster : clusters) {
+      List<String> ids = new ArrayList<>();
+      for (MarkerClusterer.Item<String> item : cluster.getItems()) {
+        ids.add(item.getId());
+      }
+      Collections.sort(ids);
+      sizes.put(cluster.getKey() + ids, cluster.getSize());
+    }
+    return sizes;
+  }
+
+  private static MarkerClusterer.Item<String> item(String id, double lat, double lng) {
+    return new MarkerClusterer.Item<>(id, lat, lng, id);
+  }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class NavInfoHistoryTest {
+  private final NavInfoHistory history = new NavInfoHistory();
+  private final NavInfo first = mock(NavInfo.class);
+  private final NavInfo second = mock(NavInfo.class);
+  private final NavInfo third = mock(NavInfo.class);
+
+  @Test
+  public void add_isIgnoredWhileCapacityIsZero() {
+    history.add(first);
+
+    assertTrue(history.drain().isEmpty());
+    assertEquals(0, history.getDroppedCount());
+  }
+
+  @Test
+  public void add_overwritesOldestWhenFull() {
+    history.setCapacity(2);
+
+    history.add(first);
+    history.add(second);
+    history.add(third);
+
+    assertEquals(Arrays.asList(second, third), history.drain());
+    assertEquals(1, history.getDroppedCount());
+  }
+
+  @Test
+  public void setCapacity_dropsOldestWhenShrinking() {
+    history.setCapacity(3);
+    history.add(first);
+    history.add(second);
+    history.add(third);
+
+    history.setCapacity(1);
+
+    assertEquals(Arrays.asList(third), history.drain());
+    assertEquals(2, history.getDroppedCount());
+  }
+
+  @Test
+  public void setCapacity_clampsNegativeToZero() {
+    history.setCapacity(-1);
+    history.add(first);
+
+    assertTrue(history.drain().isEmpty());
+  }
+
+  @Test
+  public void drain_returnsOldestFirstAndEmptiesBuffer() {
+    history.setCapacity(3);
+    history.add(first);
+    history.add(second);
+
+    assertEquals(Arrays.asList(first, second), history.drain());
+    assertTrue(history.drain().isEmpty());
+  }
+
+  @Test
+  public void clear_emptiesBufferWithoutCountingDrops() {
+    history.setCapacity(3);
+    history.add(first);
+    history.add(second);
+
+    history.clear();
+
+    assertTrue(history.drain().isEmpty());
+    assertEquals(0, history.getDroppedCount());
+  }
+}
@@ -0,0 +1,82 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.android.gms.maps.model.LatLng;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+
+public class PolylineCodecTest {
+  // Example from the encoded polyline algorithm format documentation.
+  private static final String ENCODED = "_p~iF~ps|U_ulLnnqC_mqNvxq`@";
+  private static final List<LatLng> POINTS =
+      Arrays.asList(
+          new LatLng(38.5, -120.2), new LatLng(40.7, -120.95), new LatLng(43.252, -126.453));
+
+  @Test
+  public void decode_referenceExample() {
+    assertPointsEqual(POINTS, PolylineCodec.decode(ENCODED));
+  }
+
+  @Test
+  public void encode_referenceExample() {
+    assertEquals(ENCODED, PolylineCodec.encode(POINTS));
+  }
+
+  @Test
+  public void encode_range() {
+    assertEquals(
+        PolylineCodec.encode(POINTS.subList(1, 3)), PolylineCodec.encode(POINTS, 1, POINTS.size()));
+  }
+
+  @Test
+  public void encodeDecode_roundTripsToFiveDecimals() {
+    List<LatLng> points = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      points.add(new LatLng(-89 + i * 0.357913, -179 + i * 0.7123457));
+    }
+
+    List<LatLng> decoded = PolylineCodec.decode(PolylineCodec.encode(points));
+
+    assertEquals(points.size(), decoded.size());
+    for (int i = 0; i < points.size(); i++) {
+      assertEquals(points.get(i).latitude, decoded.get(i).latitude, 1e-5);
+      assertEquals(points.get(i).longitude, decoded.get(i).longitude, 1e-5);
+    }
+  }
+
+  @Test
+  public void decode_emptyString() {
+    assertTrue(PolylineCodec.decode("").isEmpty());
+    assertEquals("", PolylineCodec.encode(new ArrayList<>()));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void decode_truncatedStringThrows() {
+    PolylineCodec.decode(ENCODED.substring(0, 3));
+  }
+
+  private static void assertPointsEqual(List<LatLng> expected, List<LatLng> actual) {
+    assertEquals(expected.size(), actual.size());
+    for (int i = 0; i < expected.size(); i++) {
+      assertEquals(expected.get(i).latitude, actual.get(i).latitude, 1e-9);
+      assertEquals(expected.get(i).longitude, actual.get(i).longitude, 1e-9);
+    }
+  }
+}
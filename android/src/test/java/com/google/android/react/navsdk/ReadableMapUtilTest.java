@@ -0,0 +1,91 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableMap;
+import com.google.android.gms.maps.model.LatLng;
+import org.junit.Test;
+
+public class ReadableMapUtilTest {
+  private final ReadableMap map = createMap();
+
+  @Test
+  public void hasValue_isFalseForMissingAndNullValues() {
+    assertTrue(ReadableMapUtil.hasValue("title", map));
+    assertFalse(ReadableMapUtil.hasValue("missing", map));
+    assertFalse(ReadableMapUtil.hasValue("cleared", map));
+  }
+
+  @Test
+  public void getters_readPresentValues() {
+    assertEquals(3, ReadableMapUtil.getInt("zIndex", map, 0));
+    assertEquals(3.9, ReadableMapUtil.getDouble("zIndex", map, 0), 0);
+    assertTrue(ReadableMapUtil.getBool("visible", map, false));
+    assertEquals("Stop", ReadableMapUtil.getString("title", map));
+  }
+
+  @Test
+  public void getters_fallBackToDefaultForMissingAndNullValues() {
+    assertEquals(7, ReadableMapUtil.getInt("missing", map, 7));
+    assertEquals(1.5, ReadableMapUtil.getDouble("cleared", map, 1.5), 0);
+    assertTrue(ReadableMapUtil.getBool("cleared", map, true));
+    assertNull(ReadableMapUtil.getString("missing", map));
+    assertNull(ReadableMapUtil.getMap("cleared", map));
+    assertNull(ReadableMapUtil.getArray("missing", map));
+  }
+
+  @Test
+  public void getString_convertsNumbersAndBooleans() {
+    assertEquals("42.0", ReadableMapUtil.getString("id", map));
+    assertEquals("true", ReadableMapUtil.getString("visible", map));
+  }
+
+  @Test
+  public void getLatLng_readsCoordinates() {
+    LatLng latLng = ReadableMapUtil.getLatLng("position", map);
+
+    assertEquals(37.5, latLng.latitude, 0);
+    assertEquals(-122.25, latLng.longitude, 0);
+  }
+
+  @Test
+  public void getLatLng_isNullWhenMissingOrIncomplete() {
+    assertNull(ReadableMapUtil.getLatLng("missing", map));
+    assertNull(ReadableMapUtil.getLatLng("partialPosition", map));
+  }
+
+  private static ReadableMap createMap() {
+    JavaOnlyMap position = new JavaOnlyMap();
+    position.putDouble("lat", 37.5);
+    position.putDouble("lng", -122.25);
+    JavaOnlyMap partialPosition = new JavaOnlyMap();
+    partialPosition.putDouble("lat", 37.5);
+
+    JavaOnlyMap map = new JavaOnlyMap();
+    map.putDouble("zIndex", 3.9);
+    map.putBoolean("visible", true);
+    map.putString("title", "Stop");
+    map.putDouble("id", 42);
+    map.putNull("cleared");
+    map.putMap("position", position);
+    map.putMap("partialPosition", partialPosition);
+    return map;
+  }
+}
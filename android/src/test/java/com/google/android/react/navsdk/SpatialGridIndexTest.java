@@ -0,0 +1,104 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.Before;
+import org.junit.Test;
+
+public class SpatialGridIndexTest {
+  private SpatialGridIndex<String> index;
+
+  @Before
+  public void setUp() {
+    index = new SpatialGridIndex<>(0.25);
+  }
+
+  @Test
+  public void query_returnsIntersectingEntries() {
+    index.put("sf", new GeoBounds(37.7, -122.5, 37.8, -122.4), "sf");
+    index.put("oakland", new GeoBounds(37.75, -122.3, 37.85, -122.2), "oakland");
+    index.put("nyc", new GeoBounds(40.7, -74.1, 40.8, -74.0), "nyc");
+
+    assertEquals(setOf("sf"), index.query(new GeoBounds(37.7, -122.6, 37.9, -122.35)));
+    assertEquals(setOf("sf", "oakland"), index.query(new GeoBounds(37.7, -122.6, 37.9, -122.1)));
+    assertEquals(setOf(), index.query(new GeoBounds(0, 0, 1, 1)));
+  }
+
+  @Test
+  public void query_zoomedOutWalksPopulatedCells() {
+    index.put("sf", new GeoBounds(37.7, -122.5, 37.8, -122.4), "sf");
+    index.put("nyc", new GeoBounds(40.7, -74.1, 40.8, -74.0), "nyc");
+    index.put("sydney", new GeoBounds(-33.9, 151.1, -33.8, 151.3), "sydney");
+
+    // The whole world covers far more cells than are populated.
+    assertEquals(setOf("sf", "nyc", "sydney"), index.query(GeoBounds.WORLD));
+    assertEquals(setOf("sf", "nyc"), index.query(new GeoBounds(0, -130, 60, -60)));
+    assertEquals(setOf("nyc"), index.query(new GeoBounds(40, -80, 60, -60)));
+  }
+
+  @Test
+  public void query_acrossAntimeridian() {
+    index.put("fiji", new GeoBounds(-18.2, 177.9, -18.0, 178.5), "fiji");
+    index.put("samoa", new GeoBounds(-14.1, -172.0, -13.4, -171.4), "samoa");
+    index.put("sf", new GeoBounds(37.7, -122.5, 37.8, -122.4), "sf");
+
+    GeoBounds pacific = new GeoBounds(-20, 170, 0, -170);
+    assertEquals(setOf("fiji", "samoa"), index.query(pacific));
+    assertEquals(setOf("fiji", "samoa"), index.query(pacific.expand(2)));
+  }
+
+  @Test
+  public void query_includesOversizedEntries() {
+    index.put("continent", new GeoBounds(25, -125, 50, -65), "continent");
+    index.put("sf", new GeoBounds(37.7, -122.5, 37.8, -122.4), "sf");
+
+    assertEquals(setOf("continent", "sf"), index.query(new GeoBounds(37.7, -122.6, 37.9, -122.35)));
+    assertEquals(setOf(), index.query(new GeoBounds(0, 0, 1, 1)));
+  }
+
+  @Test
+  public void remove_dropsEntryFromEveryCell() {
+    index.put("sf", new GeoBounds(37.7, -122.5, 37.8, -122.4), "sf");
+    index.put("continent", new GeoBounds(25, -125, 50, -65), "continent");
+
+    assertEquals("sf", index.remove("sf"));
+    assertEquals("continent", index.remove("continent"));
+    assertNull(index.remove("sf"));
+
+    assertEquals(0, index.size());
+    assertTrue(index.query(GeoBounds.WORLD).isEmpty());
+    assertTrue(index.query(new GeoBounds(37.7, -122.6, 37.9, -122.35)).isEmpty());
+  }
+
+  @Test
+  public void put_withExistingIdReplacesEntry() {
+    index.put("car", new GeoBounds(37.7, -122.5, 37.8, -122.4), "car");
+    index.put("car", new GeoBounds(40.7, -74.1, 40.8, -74.0), "car");
+
+    assertEquals(1, index.size());
+    assertEquals(setOf(), index.query(new GeoBounds(37, -123, 38, -122)));
+    assertEquals(setOf("car"), index.query(new GeoBounds(40, -75, 41, -73)));
+  }
+
+  private static Set<String> setOf(String... values) {
+    return new HashSet<>(Arrays.asList(values));
+  }
+}
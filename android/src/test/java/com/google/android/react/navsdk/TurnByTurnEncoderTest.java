@@ -0,0 +1,187 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * <p>Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file
+ * except in compliance with the License. You may obtain a copy of the License at
+ *
+ * <p>http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * <p>Unless required by applicable law or agreed to in writing, software distributed under the
+ * License is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.android.react.navsdk;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.NavInfo;
+import com.google.android.libraries.mapsplatform.turnbyturn.model.StepInfo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.MockedStatic;
+
+public class TurnByTurnEncoderTest {
+  private static final int NAV_STATE_ENROUTE = 1;
+
+  private final TurnByTurnEncoder encoder = new TurnByTurnEncoder();
+  private MockedStatic<Arguments> arguments;
+
+  @Before
+  public void setUp() {
+    arguments = mockStatic(Arguments.class);
+    arguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+    arguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+  }
+
+  @After
+  public void tearDown() {
+    arguments.close();
+  }
+
+  @Test
+  public void encode_fullModeHoldsEveryFieldAndStep() {
+    WritableMap payload = encoder.encode(navInfo(false, 100, 1, 2, 3));
+
+    assertEquals(NAV_STATE_ENROUTE, payload.getInt("navState"));
+    assertEquals(100, payload.getInt("distanceToCurrentStepMeters"));
+    assertEquals(1, payload.getMap("currentStep").getInt("stepNumber"));
+    assertStepNumbers(payload.getArray("getRemainingSteps"), 2, 3);
+    assertFalse(payload.hasKey("sequence"));
+  }
+
+  @Test
+  public void encode_firstDeltaIsKeyframe() {
+    encoder.setDeltaEncoding(true);
+
+    WritableMap payload = encoder.encode(navInfo(false, 100, 1, 2, 3));
+
+    assertTrue(payload.getBoolean("keyframe"));
+    assertEquals(0, payload.getInt("routeGenerationId"));
+    assertEquals(0, payload.getInt("sequence"));
+    assertEquals(NAV_STATE_ENROUTE, payload.getInt("navState"));
+    assertEquals(100, payload.getInt("distanceToCurrentStepMeters"));
+    assertEquals(1, payload.getInt("currentStepNumber"));
+    assertStepNumbers(payload.getArray("steps"), 1, 2, 3);
+  }
+
+  @Test
+  public void encode_deltaOnlyHoldsChangedFields() {
+    encoder.setDeltaEncoding(true);
+    encoder.encode(navInfo(false, 100, 1, 2, 3));
+
+    WritableMap payload = encoder.encode(navInfo(false, 80, 1, 2, 3));
+
+    assertFalse(payload.getBoolean("keyframe"));
+    assertEquals(1, payload.getInt("sequence"));
+    assertEquals(80, payload.getInt("distanceToCurrentStepMeters"));
+    assertFalse(payload.hasKey("navState"));
+    assertFalse(payload.hasKey("timeToCurrentStepSeconds"));
+    assertFalse(payload.hasKey("currentStepNumber"));
+    assertFalse(payload.hasKey("steps"));
+  }
+
+  @Test
+  public void encode_deltaHoldsNullForClearedFields() {
+    encoder.setDeltaEncoding(true);
+    encoder.encode(navInfo(false, 100, 1, 2));
+
+    WritableMap payload = encoder.encode(navInfo(false, null, 1, 2));
+
+    assertTrue(payload.hasKey("distanceToCurrentStepMeters"));
+    assertTrue(payload.isNull("distanceToCurrentStepMeters"));
+  }
+
+  @Test
+  public void encode_deltaOnlyHoldsNewSteps() {
+    encoder.setDeltaEncoding(true);
+    encoder.encode(navInfo(false, 100, 1, 2, 3));
+
+    WritableMap payload = encoder.encode(navInfo(false, 300, 2, 3, 4));
+
+    assertEquals(2, payload.getInt("currentStepNumber"));
+    assertStepNumbers(payload.getArray("steps"), 4);
+  }
+
+  @Test
+  public void encode_routeChangeStartsNewGenerationWithKeyframe() {
+    encoder.setDeltaEncoding(true);
+    encoder.encode(navInfo(false, 100, 4, 5));
+
+    WritableMap payload = encoder.encode(navInfo(true, 100, 1, 2));
+
+    assertTrue(payload.getBoolean("keyframe"));
+    assertEquals(1, payload.getInt("routeGenerationId"));
+    assertEquals(1, payload.getInt("sequence"));
+    assertEquals(NAV_STATE_ENROUTE, payload.getInt("navState"));
+    assertEquals(100, payload.getInt("distanceToCurrentStepMeters"));
+    assertEquals(1, payload.getInt("currentStepNumber"));
+    assertStepNumbers(payload.getArray("steps"), 1, 2);
+  }
+
+  @Test
+  public void requestKeyframe_resendsEveryFieldAndStep() {
+    encoder.setDeltaEncoding(true);
+    encoder.encode(navInfo(false, 100, 1, 2));
+    encoder.encode(navInfo(false, 80, 1, 2));
+
+    encoder.requestKeyframe();
+    WritableMap payload = encoder.encode(navInfo(false, 80, 1, 2));
+
+    assertTrue(payload.getBoolean("keyframe"));
+    assertEquals(0, payload.getInt("routeGenerationId"));
+    assertEquals(2, payload.getInt("sequence"));
+    assertEquals(80, payload.getInt("distanceToCurrentStepMeters"));
+    assertEquals(1, payload.getInt("currentStepNumber"));
+    assertStepNumbers(payload.getArray("steps"), 1, 2);
+
+    assertFalse(encoder.encode(navInfo(false, 80, 1, 2)).getBoolean("keyframe"));
+  }
+
+  private static void assertStepNumbers(ReadableArray steps, int... stepNumbers) {
+    assertEquals(stepNumbers.length, steps.size());
+    for (int i = 0; i < stepNumbers.length; i++) {
+      assertEquals(stepNumbers[i], steps.getMap(i).getInt("stepNumber"));
+    }
+  }
+
+  /** Returns an update whose current step and remaining steps have the given step numbers. */
+  private static NavInfo navInfo(
+      boolean routeChanged, Integer distanceToCurrentStepMeters, int... stepNumbers) {
+    StepInfo currentStep = step(stepNumbers[0]);
+    StepInfo[] remainingSteps = new StepInfo[stepNumbers.length - 1];
+    for (int i = 1; i < stepNumbers.length; i++) {
+      remainingSteps[i - 1] = step(stepNumbers[i]);
+    }
+
+    NavInfo navInfo = mock(NavInfo.class);
+    when(navInfo.getNavState()).thenReturn(NAV_STATE_ENROUTE);
+    when(navInfo.getRouteChanged()).thenReturn(routeChanged);
+    when(navInfo.getDistanceToCurrentStepMeters()).thenReturn(distanceToCurrentStepMeters);
+    when(navInfo.getDistanceToFinalDestinationMeters()).thenReturn(5000);
+    when(navInfo.getDistanceToNextDestinationMeters()).thenReturn(5000);
+    when(navInfo.getTimeToCurrentStepSeconds()).thenReturn(30);
+    when(navInfo.getTimeToFinalDestinationSeconds()).thenReturn(600);
+    when(navInfo.getTimeToNextDestinationSeconds()).thenReturn(600);
+    when(navInfo.getCurrentStep()).thenReturn(currentStep);
+    when(navInfo.getRemainingSteps()).thenReturn(remainingSteps);
+    return navInfo;
+  }
+
+  private static StepInfo step(int stepNumber) {
+    StepInfo stepInfo = mock(StepInfo.class);
+    when(stepInfo.getStepNumber()).thenReturn(stepNumber);
+    return stepInfo;
+  }
+}
@@ -33,7 +33,6 @@ import androidx.car.app.navigation.model.Maneuver;
 import androidx.car.app.navigation.model.NavigationTemplate;
 import androidx.car.app.navigation.model.RoutingInfo;
 import androidx.car.app.navigation.model.Step;
-import androidx.core.graphics.drawable.IconCompat;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.WritableMap;
 import com.google.android.gms.maps.GoogleMap;
@@ -57,6 +56,11 @@ public class SampleAndroidAutoScreen extends AndroidAutoBaseScreen {
       return;
     }
 
+    // Skip updates that would render the same template, as car hosts rate limit refreshes.
+    if (!hasNavInfoChanged(navInfo)) {
+      return;
+    }
+
     /**
      * Converts data received from the Navigation data feed into Android-Auto compatible data
      * structures.
@@ -82,9 +86,10 @@ public class SampleAndroidAutoScreen extends AndroidAutoBaseScreen {
   private Step buildStepFromStepInfo(StepInfo stepInfo) {
     int maneuver = ManeuverConverter.getAndroidAutoManeuverType(stepInfo.getManeuver());
     Maneuver.Builder maneuverBuilder = new Maneuver.Builder(maneuver);
-    IconCompat maneuverIcon = IconCompat.createWithBitmap(stepInfo.getManeuverBitmap());
-    CarIcon maneuverCarIcon = new CarIcon.Builder(maneuverIcon).build();
-    maneuverBuilder.setIcon(maneuverCarIcon);
+    CarIcon maneuverCarIcon = getManeuverIcon(stepInfo);
+    if (maneuverCarIcon != null) {
+      maneuverBuilder.setIcon(maneuverCarIcon);
+    }
     Step.Builder stepBuilder =
         new Step.Builder()
             .setRoad(stepInfo.getFullRoadName())
@@ -14,24 +14,36 @@
  * limitations under the License.
  */
 
-import { NativeModules } from 'react-native';
+import { NativeModules, Platform } from 'react-native';
 import type { MapViewAutoController, NavigationAutoCallbacks } from './types';
-import { useModuleListeners, type Location } from '../shared';
+import { useModuleListeners, type LatLng, type Location } from '../shared';
 import type {
   MapType,
   CircleOptions,
   Circle,
+  IconCacheStats,
+  MapViewStats,
+  MarkerClusteringOptions,
   MarkerOptions,
+  MarkerUpdate,
   Marker,
+  OverlayDescriptor,
+  OverlayReconciliationResult,
+  OverlayVirtualizationOptions,
   PolylineOptions,
   Polyline,
   PolygonOptions,
   Polygon,
   CameraPosition,
   UISettings,
+  UISettingsUpdate,
   Padding,
 } from '../maps';
-import { useMemo } from 'react';
+import { useMemo, useRef } from 'react';
+import {
+  replaceOverlays,
+  type KeyedOverlayLayers,
+} from '../maps/mapView/overlayFallback';
 
 const { NavAutoEventDispatcher, NavAutoModule } = NativeModules;
 
@@ -49,6 +61,8 @@ export const useNavigationAuto = (): {
     ['onAutoScreenAvailabilityChanged', 'onCustomNavigationAutoEvent']
   );
 
+  const keyedOverlayLayers = useRef<KeyedOverlayLayers>(new Map());
+
   const mapViewAutoController = useMemo(
     () => ({
       cleanup: async () => {
@@ -101,10 +115,58 @@ export const useNavigationAuto = (): {
         });
       },
 
+      addMarkers: async (markerOptions: MarkerOptions[]): Promise<string[]> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.addMarkers(markerOptions);
+        }
+        const markers: Marker[] = await Promise.all(
+          markerOptions.map(options => NavAutoModule.addMarker(options))
+        );
+        return markers.map(marker => marker.id);
+      },
+
+      addPolylines: async (
+        polylineOptions: PolylineOptions[]
+      ): Promise<string[]> => {
+        const options = polylineOptions.map(polyline => ({
+          ...polyline,
+          points: polyline.points || [],
+        }));
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.addPolylines(options);
+        }
+        const polylines: Polyline[] = await Promise.all(
+          options.map(polyline => NavAutoModule.addPolyline(polyline))
+        );
+        return polylines.map(polyline => polyline.id);
+      },
+
+      addCircles: async (circleOptions: CircleOptions[]): Promise<string[]> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.addCircles(circleOptions);
+        }
+        const circles: Circle[] = await Promise.all(
+          circleOptions.map(options => NavAutoModule.addCircle(options))
+        );
+        return circles.map(circle => circle.id);
+      },
+
       removeMarker: (id: string) => {
         return NavAutoModule.removeMarker(id);
       },
 
+      updateMarker: (id: string, options: MarkerUpdate) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.updateMarker(id, options);
+        }
+      },
+
+      animateMarkerTo: (id: string, position: LatLng, durationMs: number) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.animateMarkerTo(id, position, durationMs);
+        }
+      },
+
       removePolyline: (id: string) => {
         return NavAutoModule.removePolyline(id);
       },
@@ -117,6 +179,72 @@ export const useNavigationAuto = (): {
         return NavAutoModule.removeCircle(id);
       },
 
+      removeLayer: (layerId: string) => {
+        if (Platform.OS === 'android') {
+          return NavAutoModule.removeLayer(layerId);
+        }
+      },
+
+      removeOverlays: async (ids: string[]): Promise<void> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.removeOverlays(ids);
+        }
+        ids.forEach(id => {
+          NavAutoModule.removeMarker(id);
+          NavAutoModule.removePolyline(id);
+          NavAutoModule.removePolygon(id);
+          NavAutoModule.removeCircle(id);
+        });
+      },
+
+      setMarkerClusteringOptions: (options: MarkerClusteringOptions) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.setMarkerClusteringOptions(options);
+        }
+      },
+
+      setOverlays: async (
+        layerId: string,
+        descriptors: OverlayDescriptor[]
+      ): Promise<OverlayReconciliationResult> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.setOverlays(layerId, descriptors);
+        }
+        return await replaceOverlays(
+          keyedOverlayLayers.current,
+          layerId,
+          descriptors,
+          options => NavAutoModule.addMarker(options),
+          id => NavAutoModule.removeMarker(id)
+        );
+      },
+
+      getIconCacheStats: async (): Promise<IconCacheStats | null> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.getIconCacheStats();
+        }
+        return null;
+      },
+
+      getMapViewStats: async (): Promise<MapViewStats | null> => {
+        // Android Auto renders on a car surface, not in a map view.
+        return null;
+      },
+
+      prefetchMapStyles: async (urls: string[]): Promise<void> => {
+        if (Platform.OS === 'android') {
+          return await NavAutoModule.prefetchMapStyles(urls);
+        }
+      },
+
+      setOverlayVirtualizationOptions: (
+        options: OverlayVirtualizationOptions
+      ) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.setOverlayVirtualizationOptions(options);
+        }
+      },
+
       setIndoorEnabled: (isOn: boolean) => {
         return NavAutoModule.setIndoorEnabled(isOn);
       },
@@ -170,6 +298,21 @@ export const useNavigationAuto = (): {
         return NavAutoModule.setBuildingsEnabled(isOn);
       },
 
+      setUiSettings: (settings: UISettingsUpdate) => {
+        if (Platform.OS === 'android') {
+          NavAutoModule.setUiSettings(settings);
+          return;
+        }
+        // Each setting is applied by the method named after it, e.g.
+        // isCompassEnabled by setCompassEnabled.
+        Object.entries(settings).forEach(([name, isOn]) => {
+          const setter = NavAutoModule[`set${name.slice(2)}`];
+          if (isOn !== undefined && setter !== undefined) {
+            setter(isOn);
+          }
+        });
+      },
+
       getCameraPosition: async (): Promise<CameraPosition> => {
         return await NavAutoModule.getCameraPosition();
       },
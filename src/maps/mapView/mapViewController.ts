@@ -14,9 +14,14 @@
  * limitations under the License.
  */
 
-import { NativeModules } from 'react-native';
-import type { Location } from '../../shared/types';
-import { commands, sendCommand } from '../../shared/viewManager';
+import { NativeModules, Platform } from 'react-native';
+import type { LatLng, Location } from '../../shared/types';
+import {
+  commands,
+  sendCommand,
+  sendCommands,
+  type ViewCommand,
+} from '../../shared/viewManager';
 import type {
   CameraPosition,
   Circle,
@@ -24,19 +29,30 @@ import type {
   Polygon,
   Polyline,
   UISettings,
+  UISettingsUpdate,
 } from '../types';
 import type {
   CircleOptions,
   MapType,
   MapViewController,
+  MapViewStats,
+  IconCacheStats,
+  MarkerClusteringOptions,
   MarkerOptions,
+  MarkerUpdate,
+  OverlayDescriptor,
+  OverlayReconciliationResult,
+  OverlayVirtualizationOptions,
   Padding,
   PolygonOptions,
   PolylineOptions,
 } from './types';
+import { replaceOverlays, type KeyedOverlayLayers } from './overlayFallback';
 const { NavViewModule } = NativeModules;
 
 export const getMapViewController = (viewId: number): MapViewController => {
+  const keyedOverlayLayers: KeyedOverlayLayers = new Map();
+
   return {
     setMapType: (mapType: MapType) => {
       sendCommand(viewId, commands.setMapType, [mapType]);
@@ -76,10 +92,62 @@ export const getMapViewController = (viewId: number): MapViewController => {
       });
     },
 
+    addMarkers: async (markerOptions: MarkerOptions[]): Promise<string[]> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.addMarkers(viewId, markerOptions);
+      }
+      const markers: Marker[] = await Promise.all(
+        markerOptions.map(options => NavViewModule.addMarker(viewId, options))
+      );
+      return markers.map(marker => marker.id);
+    },
+
+    addPolylines: async (
+      polylineOptions: PolylineOptions[]
+    ): Promise<string[]> => {
+      const options = polylineOptions.map(polyline => ({
+        ...polyline,
+        points: polyline.points || [],
+      }));
+      if (Platform.OS === 'android') {
+        return await NavViewModule.addPolylines(viewId, options);
+      }
+      const polylines: Polyline[] = await Promise.all(
+        options.map(polyline => NavViewModule.addPolyline(viewId, polyline))
+      );
+      return polylines.map(polyline => polyline.id);
+    },
+
+    addCircles: async (circleOptions: CircleOptions[]): Promise<string[]> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.addCircles(viewId, circleOptions);
+      }
+      const circles: Circle[] = await Promise.all(
+        circleOptions.map(options => NavViewModule.addCircle(viewId, options))
+      );
+      return circles.map(circle => circle.id);
+    },
+
     removeMarker: (id: string) => {
       sendCommand(viewId, commands.removeMarker, [id]);
     },
 
+    updateMarker: (id: string, options: MarkerUpdate) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.updateMarker, [id, options]);
+      }
+    },
+
+    animateMarkerTo: (id: string, position: LatLng, durationMs: number) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.animateMarkerTo, [
+          id,
+          position,
+          durationMs,
+        ]);
+      }
+    },
+
     removePolyline: (id: string) => {
       sendCommand(viewId, commands.removePolyline, [id]);
     },
@@ -92,6 +160,76 @@ export const getMapViewController = (viewId: number): MapViewController => {
       sendCommand(viewId, commands.removeCircle, [id]);
     },
 
+    removeLayer: (layerId: string) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.removeLayer, [layerId]);
+      }
+    },
+
+    removeOverlays: async (ids: string[]): Promise<void> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.removeOverlays(viewId, ids);
+      }
+      ids.forEach(id => {
+        sendCommand(viewId, commands.removeMarker, [id]);
+        sendCommand(viewId, commands.removePolyline, [id]);
+        sendCommand(viewId, commands.removePolygon, [id]);
+        sendCommand(viewId, commands.removeCircle, [id]);
+      });
+    },
+
+    setMarkerClusteringOptions: (options: MarkerClusteringOptions) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.setMarkerClusteringOptions, [options]);
+      }
+    },
+
+    setOverlays: async (
+      layerId: string,
+      descriptors: OverlayDescriptor[]
+    ): Promise<OverlayReconciliationResult> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.setOverlays(viewId, layerId, descriptors);
+      }
+      return await replaceOverlays(
+        keyedOverlayLayers,
+        layerId,
+        descriptors,
+        options => NavViewModule.addMarker(viewId, options),
+        id => sendCommand(viewId, commands.removeMarker, [id])
+      );
+    },
+
+    getIconCacheStats: async (): Promise<IconCacheStats | null> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.getIconCacheStats();
+      }
+      return null;
+    },
+
+    getMapViewStats: async (): Promise<MapViewStats | null> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.getMapViewStats();
+      }
+      return null;
+    },
+
+    prefetchMapStyles: async (urls: string[]): Promise<void> => {
+      if (Platform.OS === 'android') {
+        return await NavViewModule.prefetchMapStyles(urls);
+      }
+    },
+
+    setOverlayVirtualizationOptions: (
+      options: OverlayVirtualizationOptions
+    ) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.setOverlayVirtualizationOptions, [
+          options,
+        ]);
+      }
+    },
+
     setIndoorEnabled: (isOn: boolean) => {
       sendCommand(viewId, commands.setIndoorEnabled, [isOn]);
     },
@@ -166,6 +304,23 @@ export const getMapViewController = (viewId: number): MapViewController => {
       sendCommand(viewId, commands.moveCamera, [cameraPosition]);
     },
 
+    setUiSettings: (settings: UISettingsUpdate) => {
+      if (Platform.OS === 'android') {
+        sendCommand(viewId, commands.setUiSettings, [settings]);
+        return;
+      }
+      // Each setting is applied by the command named after it, e.g.
+      // isCompassEnabled by setCompassEnabled.
+      const viewCommands: ViewCommand[] = [];
+      Object.entries(settings).forEach(([name, isOn]) => {
+        const command = commands[`set${name.slice(2)}`];
+        if (isOn !== undefined && command !== undefined) {
+          viewCommands.push([command, [isOn]]);
+        }
+      });
+      sendCommands(viewId, viewCommands);
+    },
+
     setPadding: (padding: Padding) => {
       const { top = 0, left = 0, bottom = 0, right = 0 } = padding;
       sendCommand(viewId, commands.setPadding, [top, left, bottom, right]);
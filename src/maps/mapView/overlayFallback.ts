@@ -0,0 +1,63 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import type { Marker } from '../types';
+import type {
+  MarkerOptions,
+  OverlayDescriptor,
+  OverlayReconciliationResult,
+} from './types';
+
+/**
+ * Marker ids by descriptor key, for each layer reconciled in JS.
+ */
+export type KeyedOverlayLayers = Map<string, Map<string, string>>;
+
+/**
+ * Emulates `setOverlays` on platforms without native reconciliation by
+ * removing the markers of the previous call and adding the new ones.
+ */
+export const replaceOverlays = async (
+  layers: KeyedOverlayLayers,
+  layerId: string,
+  descriptors: OverlayDescriptor[],
+  addMarker: (options: MarkerOptions) => Promise<Marker>,
+  removeMarker: (id: string) => void
+): Promise<OverlayReconciliationResult> => {
+  const previous = layers.get(layerId) || new Map<string, string>();
+  previous.forEach(id => removeMarker(id));
+
+  const added = await Promise.all(
+    descriptors.map(async ({ key, ...options }) => ({
+      key,
+      marker: await addMarker(options),
+    }))
+  );
+  const current = new Map<string, string>();
+  const ids: Record<string, string> = {};
+  added.forEach(({ key, marker }) => {
+    current.set(key, marker.id);
+    ids[key] = marker.id;
+  });
+  layers.set(layerId, current);
+
+  return {
+    ids,
+    addedCount: descriptors.length,
+    updatedCount: 0,
+    removedCount: previous.size,
+  };
+};
@@ -23,6 +23,7 @@ import type {
   Polygon,
   Polyline,
   UISettings,
+  UISettingsUpdate,
 } from '../types';
 
 /**
@@ -43,6 +44,8 @@ export interface CircleOptions {
   clickable?: boolean;
   /** Defines whether the circle should be rendered (displayed) in GoogleMap */
   visible?: boolean;
+  /** Identifier of the layer this overlay belongs to, so it can be removed with `removeLayer`. Android only. */
+  layerId?: string;
 }
 
 /**
@@ -67,16 +70,52 @@ export interface MarkerOptions {
   flat?: boolean;
   /** Indicates the visibility of the polygon. True by default. */
   visible?: boolean;
+  /** Identifier of the layer this overlay belongs to, so it can be removed with `removeLayer`. Android only. */
+  layerId?: string;
+}
+
+/**
+ * Marker options to change with `updateMarker`. Options left out keep their
+ * current value.
+ */
+export type MarkerUpdate = Partial<Omit<MarkerOptions, 'layerId'>>;
+
+/**
+ * Marker options reconciled by `setOverlays`, matched across calls by key.
+ */
+export interface OverlayDescriptor extends MarkerOptions {
+  /** Identifies the marker within its layer. Must be unique in a call. */
+  key: string;
+}
+
+/**
+ * Outcome of a `setOverlays` call.
+ */
+export interface OverlayReconciliationResult {
+  /** Marker ids by descriptor key. */
+  ids: Record<string, string>;
+  /** Number of markers added to the map. */
+  addedCount: number;
+  /** Number of existing markers whose options were updated in place. */
+  updatedCount: number;
+  /** Number of markers removed because their key is no longer present. */
+  removedCount: number;
 }
 
 /**
  * Defines PolygonOptions for a polygon.
  */
 export interface PolygonOptions {
-  /** An array of LatLngs that are the vertices of the polygon. */
-  points: LatLng[];
+  /** An array of LatLngs that are the vertices of the polygon. Required unless `encodedPoints` or `flatPoints` is set. */
+  points?: LatLng[];
+  /** The vertices of the polygon as a Google encoded polyline string. Takes precedence over `points`. Android only. */
+  encodedPoints?: string;
+  /** The vertices of the polygon as a flat array of alternating latitudes and longitudes. Takes precedence over `points`. Android only. */
+  flatPoints?: number[];
   /** An array of holes, where a hole is an array of LatLngs. */
   holes?: LatLng[][];
+  /** An array of holes, where a hole is a Google encoded polyline string. Android only. */
+  encodedHoles?: string[];
   /** Sets the width of the stroke of the polygon. The width is defined in pixels. */
   strokeWidth?: number;
   /** Sets the stroke color of this polygon. The color in hex format (ie. #RRGGBB). */
@@ -89,14 +128,20 @@ export interface PolygonOptions {
   clickable?: boolean;
   /** Indicates the visibility of the polygon. True by default. */
   visible?: boolean;
+  /** Identifier of the layer this overlay belongs to, so it can be removed with `removeLayer`. Android only. */
+  layerId?: string;
 }
 
 /**
  * Defines PolylineOptions for a Polyline.
  */
 export interface PolylineOptions {
-  /** An array of LatLngs that are the vertices of the polyline. */
-  points: LatLng[];
+  /** An array of LatLngs that are the vertices of the polyline. Required unless `encodedPoints` or `flatPoints` is set. */
+  points?: LatLng[];
+  /** The vertices of the polyline as a Google encoded polyline string. Takes precedence over `points`. Android only. */
+  encodedPoints?: string;
+  /** The vertices of the polyline as a flat array of alternating latitudes and longitudes. Takes precedence over `points`. Android only. */
+  flatPoints?: number[];
   /** The color of this polyline. The color in hex format (ie. #RRGGBB). */
   color?: string;
   /** The width of the stroke of the polyline. The width is defined in pixels. */
@@ -105,6 +150,64 @@ export interface PolylineOptions {
   clickable?: boolean;
   /** Indicates the visibility of the polyline. True by default. */
   visible?: boolean;
+  /** Identifier of the layer this overlay belongs to, so it can be removed with `removeLayer`. Android only. */
+  layerId?: string;
+}
+
+/**
+ * Defines how markers are grouped into clusters. Android only.
+ */
+export interface MarkerClusteringOptions {
+  /** Whether markers added from now on are clustered. When turned off, clustered markers are added to the map as regular markers. */
+  enabled: boolean;
+  /** Size in pixels of the square grid cells used to group markers. Defaults to 100. */
+  gridSize?: number;
+  /** Minimum number of markers in a cell for them to be shown as a cluster. Defaults to 2. */
+  minClusterSize?: number;
+  /** The fill color of cluster icons. The color in hex format (ie. #RRGGBB). */
+  clusterColor?: string;
+  /** The text color of cluster icons. The color in hex format (ie. #RRGGBB). */
+  clusterTextColor?: string;
+}
+
+/**
+ * Defines how overlays are kept off the map while outside the viewport.
+ * Android only.
+ */
+export interface OverlayVirtualizationOptions {
+  /** Whether overlays added from now on are only added to the map near the visible region. When turned off, all virtualized overlays are added to the map. */
+  enabled: boolean;
+  /** Extra area kept around the visible region, as a fraction of its size. Defaults to 0.5. */
+  margin?: number;
+}
+
+/**
+ * Usage counters of the icon cache shared by all maps. Android only.
+ */
+export interface IconCacheStats {
+  /** Number of icon lookups served from the cache. */
+  hitCount: number;
+  /** Number of icon lookups that loaded the icon asset. */
+  missCount: number;
+  /** Number of icons dropped to stay within the cache size. */
+  evictionCount: number;
+  /** Number of icons currently cached. */
+  size: number;
+  /** Maximum number of icons kept in the cache. */
+  maxSize: number;
+}
+
+/**
+ * Number of map views registered on the native side, for leak monitoring.
+ * Android only.
+ */
+export interface MapViewStats {
+  /** Number of live map views. */
+  mapViewCount: number;
+  /** Number of live navigation views. */
+  navigationViewCount: number;
+  /** Number of views dropped after being collected without being removed. */
+  purgedCount: number;
 }
 
 /**
@@ -256,6 +359,34 @@ export interface MapViewController {
 
   addPolygon(polygonOptions: PolygonOptions): Promise<Polygon>;
 
+  /**
+   * Add several markers to the map in a single call.
+   *
+   * @param markerOptions - Array of marker options, see `addMarker`.
+   * @returns A promise that resolves to the ids of the added markers, in the
+   *          same order as the given options.
+   */
+  addMarkers(markerOptions: MarkerOptions[]): Promise<string[]>;
+
+  /**
+   * Add several polylines to the map in a single call.
+   *
+   * @param polylineOptions - Array of polyline options, see `addPolyline`.
+   * @returns A promise that resolves to the ids of the added polylines, in the
+   *          same order as the given options. On Android, polylines with a
+   *          malformed `encodedPoints` or `flatPoints` are skipped.
+   */
+  addPolylines(polylineOptions: PolylineOptions[]): Promise<string[]>;
+
+  /**
+   * Add several circles to the map in a single call.
+   *
+   * @param circleOptions - Array of circle options, see `addCircle`.
+   * @returns A promise that resolves to the ids of the added circles, in the
+   *          same order as the given options.
+   */
+  addCircles(circleOptions: CircleOptions[]): Promise<string[]>;
+
   /**
    * Removes a marker from the map.
    *
@@ -263,6 +394,27 @@ export interface MapViewController {
    */
   removeMarker(id: string): void;
 
+  /**
+   * Changes the options of a marker in place, without removing and adding it
+   * again. Clustered and virtualized markers are not updated.
+   * Android only.
+   *
+   * @param id - String specifying the id property of the marker
+   * @param options - The options to change.
+   */
+  updateMarker(id: string, options: MarkerUpdate): void;
+
+  /**
+   * Moves a marker to a position over the given duration. All animating
+   * markers share one frame callback, and a new call continues from where
+   * the marker currently is. Android only.
+   *
+   * @param id - String specifying the id property of the marker
+   * @param position - The position to move the marker to.
+   * @param durationMs - Duration of the animation in milliseconds.
+   */
+  animateMarkerTo(id: string, position: LatLng, durationMs: number): void;
+
   /**
    * Removes a polyline from the map.
    *
@@ -284,6 +436,88 @@ export interface MapViewController {
    */
   removeCircle(id: string): void;
 
+  /**
+   * Removes every marker, polyline, polygon and circle that was added with
+   * the given layerId.
+   * Android only.
+   *
+   * @param layerId - String specifying the layerId used when adding the overlays
+   */
+  removeLayer(layerId: string): void;
+
+  /**
+   * Removes several overlays from the map in a single call. The ids may
+   * refer to markers, polylines, polygons or circles.
+   *
+   * @param ids - Array of overlay ids to remove
+   */
+  removeOverlays(ids: string[]): Promise<void>;
+
+  /**
+   * Configures marker clustering. While enabled, markers are grouped by
+   * screen proximity and only clusters and visible single markers are
+   * added to the map. Tapping a cluster zooms in on it.
+   * Android only.
+   *
+   * @param options - Object specifying whether clustering is enabled and
+   *                  how markers are grouped.
+   */
+  setMarkerClusteringOptions(options: MarkerClusteringOptions): void;
+
+  /**
+   * Configures overlay virtualization. While enabled, added markers,
+   * polylines, polygons and circles are kept in a spatial index and only
+   * the ones near the visible region are added to the map. Markers are
+   * clustered instead when marker clustering is enabled.
+   * Android only.
+   *
+   * @param options - Object specifying whether virtualization is enabled
+   *                  and the margin kept around the visible region.
+   */
+  setOverlayVirtualizationOptions(options: OverlayVirtualizationOptions): void;
+
+  /**
+   * Makes the markers of a layer match the descriptors. Markers are matched
+   * by key across calls: new keys are added, missing keys are removed and
+   * changed markers are updated in place on Android, so a re-rendered marker
+   * set only touches what changed. Reconciled markers are not clustered or
+   * virtualized. On iOS the previous markers are replaced.
+   *
+   * @param layerId - Layer holding the reconciled markers.
+   * @param descriptors - Options of every marker the layer should contain.
+   * @returns A promise that resolves with the marker ids by key.
+   */
+  setOverlays(
+    layerId: string,
+    descriptors: OverlayDescriptor[]
+  ): Promise<OverlayReconciliationResult>;
+
+  /**
+   * Retrieves the usage counters of the icon cache shared by all maps.
+   * Android only, resolves with null on iOS.
+   *
+   * @returns A promise that resolves with the cache counters.
+   */
+  getIconCacheStats(): Promise<IconCacheStats | null>;
+
+  /**
+   * Retrieves the number of map and navigation views currently registered.
+   * Android only, resolves with null on iOS and for Android Auto.
+   *
+   * @returns A promise that resolves with the view counts.
+   */
+  getMapViewStats(): Promise<MapViewStats | null>;
+
+  /**
+   * Downloads and parses map styles in the background, so that later
+   * `setMapStyle` calls with these URLs apply without waiting for the
+   * network. Android only, resolves immediately on iOS.
+   *
+   * @param urls - URLs of the map style JSON files.
+   * @returns A promise that resolves once every style was loaded or failed.
+   */
+  prefetchMapStyles(urls: string[]): Promise<void>;
+
   /**
    * Enable or disable the indoor map layer.
    *
@@ -387,6 +621,15 @@ export interface MapViewController {
    */
   setBuildingsEnabled(isOn: boolean): void;
 
+  /**
+   * Applies several UI settings at once. On Android only the settings that
+   * differ from the last applied values reach the map; elsewhere they are
+   * applied one by one.
+   *
+   * @param settings - The settings to change. Omitted settings are kept.
+   */
+  setUiSettings(settings: UISettingsUpdate): void;
+
   /**
    * Getter trigger functions for MapsSDK
    *
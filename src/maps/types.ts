@@ -160,6 +160,23 @@ export interface UISettings {
   isZoomGesturesEnabled: boolean;
 }
 
+/**
+ * UI settings applied together with `setUiSettings`. Settings that are
+ * omitted keep their current value.
+ */
+export interface UISettingsUpdate extends Partial<UISettings> {
+  /** Defines whether the my location button is enabled/disabled on the GoogleMap. */
+  isMyLocationButtonEnabled?: boolean;
+  /** Defines whether the my location layer is enabled/disabled on the GoogleMap. */
+  isMyLocationEnabled?: boolean;
+  /** Defines whether the indoor map layer is enabled/disabled on the GoogleMap. */
+  isIndoorEnabled?: boolean;
+  /** Defines whether the traffic layer is enabled/disabled on the GoogleMap. */
+  isTrafficEnabled?: boolean;
+  /** Defines whether the 3D buildings layer is enabled/disabled on the GoogleMap. */
+  isBuildingsEnabled?: boolean;
+}
+
 /**
  * `MapViewProps` interface provides methods focused on managing map events and state changes.
  */
@@ -0,0 +1,115 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+type StepMap = { stepNumber: number } & Record<string, unknown>;
+
+/**
+ * An `onTurnByTurn` payload sent while delta encoding is enabled.
+ */
+export interface TurnByTurnDelta {
+  routeGenerationId: number;
+  sequence: number;
+  /** Whether the payload holds every field and step, resetting the state. */
+  keyframe: boolean;
+  /** Steps that were not sent before for this route. */
+  steps?: StepMap[];
+  currentStepNumber?: number | null;
+  [field: string]: unknown;
+}
+
+const DELTA_KEYS = [
+  'routeGenerationId',
+  'sequence',
+  'keyframe',
+  'steps',
+  'currentStepNumber',
+];
+
+export const isTurnByTurnDelta = (value: unknown): value is TurnByTurnDelta =>
+  typeof value === 'object' && value !== null && 'routeGenerationId' in value;
+
+/**
+ * Creates a function that applies delta payloads to the state kept from
+ * the previous ones and returns the complete event, shaped like the ones
+ * sent without delta encoding. The same payload is decoded once however
+ * many listeners receive it. `requestKeyframe` is called when a payload was
+ * missed; the state may be stale until the keyframe arrives. The state of a
+ * previous route is dropped as soon as a payload of a new route arrives.
+ */
+export const createTurnByTurnDecoder = (requestKeyframe: () => void) => {
+  let sequence = -1;
+  let routeGenerationId = -1;
+  let awaitingKeyframe = false;
+  let fields: Record<string, unknown> = {};
+  let steps = new Map<number, StepMap>();
+  let currentStepNumber: number | null = null;
+  let lastEvent: Record<string, unknown> = {};
+
+  return (delta: TurnByTurnDelta): Record<string, unknown> => {
+    if (delta.sequence === sequence) {
+      return lastEvent;
+    }
+    const routeChanged = delta.routeGenerationId !== routeGenerationId;
+    if (delta.keyframe || routeChanged) {
+      fields = {};
+      steps = new Map();
+      currentStepNumber = null;
+    }
+    if (delta.keyframe) {
+      awaitingKeyframe = false;
+    } else if (
+      (routeChanged || delta.sequence !== sequence + 1) &&
+      !awaitingKeyframe
+    ) {
+      awaitingKeyframe = true;
+      requestKeyframe();
+    }
+    sequence = delta.sequence;
+    routeGenerationId = delta.routeGenerationId;
+
+    Object.keys(delta).forEach(key => {
+      if (DELTA_KEYS.includes(key)) {
+        return;
+      }
+      if (delta[key] === null) {
+        delete fields[key];
+      } else {
+        fields[key] = delta[key];
+      }
+    });
+    if (delta.currentStepNumber !== undefined) {
+      currentStepNumber = delta.currentStepNumber;
+    }
+    // Steps arrive in ascending order, so the map stays sorted.
+    (delta.steps || []).forEach(step => steps.set(step.stepNumber, step));
+
+    const event: Record<string, unknown> = { ...fields };
+    const remainingSteps: StepMap[] = [];
+    steps.forEach((step, stepNumber) => {
+      if (currentStepNumber === null || stepNumber > currentStepNumber) {
+        remainingSteps.push(step);
+      } else if (stepNumber === currentStepNumber) {
+        event.currentStep = step;
+      } else {
+        steps.delete(stepNumber);
+      }
+    });
+    event.getRemainingSteps = remainingSteps;
+
+    lastEvent = event;
+    return event;
+  };
+};
@@ -18,6 +18,11 @@ import type { LatLng, Location } from '../../shared/types';
 import type {
   AlternateRoutingStrategy,
   AudioGuidance,
+  CompactPath,
+  CompactRouteSegment,
+  PathEncoding,
+  TraveledPathChunk,
+  TraveledPathUpdatesOptions,
   NavigationInitErrorCode,
   RouteSegment,
   RouteStatus,
@@ -130,6 +135,35 @@ export interface LocationSimulationOptions {
   readonly speedMultiplier: number;
 }
 
+/**
+ * Limits how often location events are delivered. Road-snapped and raw
+ * locations are throttled independently. Android only.
+ */
+export interface LocationUpdateOptions {
+  /** Minimum time in milliseconds between two delivered locations. */
+  minIntervalMs?: number;
+  /** Minimum distance in meters between two delivered locations. */
+  minDistanceMeters?: number;
+  /**
+   * Number of locations delivered together through `onLocationsChanged` and
+   * `onRawLocationsChanged`. When greater than 1, `onLocationChanged` and
+   * `onRawLocationChanged` are not called. Defaults to 1.
+   */
+  batchSize?: number;
+  /** Maximum age in milliseconds of the oldest location in an incomplete batch. The batch is delivered once it reaches this age, even if no further location arrives. Defaults to 1000. */
+  maxBatchDelayMs?: number;
+}
+
+/** Options of `NavigationController.init`. */
+export interface NavigationInitOptions {
+  /**
+   * URLs of map style JSON files to download and parse while the navigator
+   * initializes, as `prefetchMapStyles` does. Failures are logged and do not
+   * affect initialization. Android only.
+   */
+  mapStyleUrls?: string[];
+}
+
 /** Defines all callbacks to be emitted during navigation. */
 export interface NavigationCallbacks {
   /**
@@ -151,6 +185,14 @@ export interface NavigationCallbacks {
    */
   onLocationChanged?(location: Location): void;
 
+  /**
+   * Callback function invoked with a batch of locations when location
+   * updates are batched with `LocationUpdateOptions.batchSize`. Android only.
+   *
+   * @param locations - The locations, oldest first.
+   */
+  onLocationsChanged?(locations: Location[]): void;
+
   /**
    * A callback function that gets invoked when navigation information is ready.
    *
@@ -172,6 +214,14 @@ export interface NavigationCallbacks {
    */
   onRawLocationChanged?(location: Location): void;
 
+  /**
+   * Callback function invoked with a batch of raw locations when location
+   * updates are batched with `LocationUpdateOptions.batchSize`. Android only.
+   *
+   * @param locations - The raw locations, oldest first.
+   */
+  onRawLocationsChanged?(locations: Location[]): void;
+
   /**
    * Callback function invoked when the route is changed.
    */
@@ -193,6 +243,14 @@ export interface NavigationCallbacks {
    */
   onRemainingTimeOrDistanceChanged?(): void;
 
+  /**
+   * Callback invoked with the newly traveled points while traveled path
+   * updates are enabled with `setTraveledPathUpdatesEnabled`. Android only.
+   *
+   * @param chunk - The points appended since the previous update.
+   */
+  onTraveledPathUpdated?(chunk: TraveledPathChunk): void;
+
   /**
    * Callback that gets triggered when the navigation failed to initilize.
    *
@@ -258,8 +316,10 @@ export interface Simulator {
 export interface NavigationController {
   /**
    * Initializes the navigation module.
+   *
+   * @param options - Map styles to prefetch during initialization.
    */
-  init(): Promise<void>;
+  init(options?: NavigationInitOptions): Promise<void>;
 
   /**
    * Cleans up the navigation module, releasing any resources that were allocated.
@@ -282,6 +342,19 @@ export interface NavigationController {
    */
   getRouteSegments(): Promise<RouteSegment[]>;
 
+  /**
+   * Retrieves the route segments with their coordinates packed as an
+   * encoded polyline or a flat number array, and their traffic data as
+   * parallel arrays. Use this instead of `getRouteSegments` for long routes.
+   *
+   * @param encoding - How coordinates are packed. Defaults to
+   *                   `PathEncoding.ENCODED`.
+   * @returns A promise that resolves with the compact route segments.
+   */
+  getCompactRouteSegments(
+    encoding?: PathEncoding
+  ): Promise<CompactRouteSegment[]>;
+
   /**
    *
    * @returns the current time and distance information.
@@ -298,6 +371,48 @@ export interface NavigationController {
    */
   getTraveledPath(): Promise<LatLng[]>;
 
+  /**
+   * Retrieves the traveled path packed as an encoded polyline or a flat
+   * number array.
+   *
+   * @param encoding - How coordinates are packed. Defaults to
+   *                   `PathEncoding.ENCODED`.
+   * @returns A promise that resolves with the compact traveled path.
+   */
+  getCompactTraveledPath(encoding?: PathEncoding): Promise<CompactPath>;
+
+  /**
+   * Retrieves the traveled path points appended since the given index.
+   * Pass the returned `nextIndex` on the next call to only transfer new
+   * points.
+   *
+   * @param index - Index of the first point to return. Use 0 on the first
+   *                call.
+   * @param encoding - How coordinates are packed. Defaults to
+   *                   `PathEncoding.ENCODED`.
+   * @param pathId - The `pathId` of the chunk `index` was taken from. If a
+   *                 new route was set since, the whole path is returned with
+   *                 `reset` set. Android only.
+   * @returns A promise that resolves with the new points.
+   */
+  getTraveledPathSince(
+    index: number,
+    encoding?: PathEncoding,
+    pathId?: number
+  ): Promise<TraveledPathChunk>;
+
+  /**
+   * Enables or disables `onTraveledPathUpdated` events, which push newly
+   * traveled points in batches. Android only.
+   *
+   * @param isEnabled - Whether the events are sent.
+   * @param options - Batch size, distance between checks and encoding.
+   */
+  setTraveledPathUpdatesEnabled(
+    isEnabled: boolean,
+    options?: TraveledPathUpdatesOptions
+  ): void;
+
   /**
    * Asynchronously retrieves the version of the Navigation SDK.
    *
@@ -392,8 +507,11 @@ export interface NavigationController {
 
   /**
    * Allows the library to start tracking location and providing updates.
+   *
+   * @param options - Throttling and batching of location events. Android
+   *                  only, ignored on iOS.
    */
-  startUpdatingLocation(): void;
+  startUpdatingLocation(options?: LocationUpdateOptions): void;
 
   /**
    * Enables location updates when the application is on the background.
@@ -403,12 +521,54 @@ export interface NavigationController {
    */
   setBackgroundLocationUpdatesEnabled(isEnabled: boolean): void;
 
+  /**
+   * Configures the queue through which native navigation events are
+   * delivered to JS. Android only.
+   *
+   * @param options - Queue capacity and overflow policy.
+   */
+  setEventQueueOptions(options: EventQueueOptions): void;
+
+  /**
+   * Retrieves the counters of the native event queue. Android only,
+   * resolves with null on iOS.
+   *
+   * @returns A promise that resolves with the queue counters.
+   */
+  getEventQueueMetrics(): Promise<EventQueueMetrics | null>;
+
+  /**
+   * Downloads and parses map styles in the background, so that later
+   * `setMapStyle` calls with these URLs apply without waiting for the
+   * network. To prefetch during initialization, pass `mapStyleUrls` to
+   * `init` instead. Android only, resolves immediately on iOS.
+   *
+   * @param urls - URLs of the map style JSON files.
+   * @returns A promise that resolves once every style was loaded or failed.
+   */
+  prefetchMapStyles(urls: string[]): Promise<void>;
+
+  /**
+   * Retrieves the counters of the turn-by-turn updates, such as the size of
+   * each update and the time spent decoding it, to compare configurations.
+   * The update counters are only collected while turn-by-turn logging is
+   * enabled with `collectMetrics`. Android only, resolves with null on iOS.
+   *
+   * @returns A promise that resolves with the turn-by-turn counters.
+   */
+  getTurnByTurnMetrics(): Promise<TurnByTurnMetrics | null>;
+
   /**
    * Enables or disables turn-by-turn logging.
    *
    * @param isEnabled - Determines whether the turn-by-turn logging should be enabled or disabled.
+   * @param options - Step preview window, maneuver bitmaps, update interval
+   *                  and payload encoding. Android only.
    */
-  setTurnByTurnLoggingEnabled(isEnabled: boolean): void;
+  setTurnByTurnLoggingEnabled(
+    isEnabled: boolean,
+    options?: TurnByTurnOptions
+  ): void;
 
   /**
    * Simulator to be used in navigation.
@@ -416,6 +576,107 @@ export interface NavigationController {
   readonly simulator: Simulator;
 }
 
+/**
+ * Defines which pending event is lost when the native event queue is full.
+ * Location and remaining time or distance updates, which are superseded by the
+ * next update, are lost first. Other events are only lost when none of these
+ * updates is pending, so the queue never grows past its capacity.
+ */
+export enum EventOverflowPolicy {
+  /** Drops the oldest pending location or remaining time or distance update, or the oldest pending event if there is none. */
+  DROP_OLDEST = 0,
+  /** Replaces the pending update of the same type, if any, and otherwise drops as `DROP_OLDEST` does. */
+  COALESCE_BY_TYPE,
+}
+
+/**
+ * Configures the queue through which native navigation events are delivered
+ * to JS. Android only.
+ */
+export interface EventQueueOptions {
+  /** Maximum number of pending events. Defaults to 256. */
+  capacity?: number;
+  /** What to do when an event arrives while the queue is full. Defaults to `EventOverflowPolicy.DROP_OLDEST`. */
+  overflowPolicy?: EventOverflowPolicy;
+}
+
+/**
+ * Configures the `onTurnByTurn` events. Android only.
+ */
+export interface TurnByTurnOptions {
+  /** Number of upcoming steps included in each event. Defaults to all remaining steps. */
+  numNextStepsToPreview?: number;
+  /** Whether Nav SDK generates maneuver bitmaps for the steps, as used by the Android Auto maneuver icons. Set it to false to shrink every update when the icons are not shown. Defaults to true. */
+  includeManeuverBitmaps?: boolean;
+  /** Adds a `maneuverIconUri` to each step, the file URI of its maneuver icon as a PNG, which can be used as an image source. Each icon is written once. Requires `includeManeuverBitmaps`. Defaults to false. */
+  includeManeuverIconUris?: boolean;
+  /** Minimum time between two events, in milliseconds. Updates in between are dropped except the latest, and step changes are sent at once. Defaults to 0. */
+  minUpdateIntervalMs?: number;
+  /** Sends the steps once per route and then only the fields that changed, instead of the whole event on every update. Listeners still receive complete events. Defaults to false. */
+  deltaEncoding?: boolean;
+  /** Collects the counters returned by `getTurnByTurnMetrics`. Measuring the size of each update copies it, so this is off by default. */
+  collectMetrics?: boolean;
+}
+
+/**
+ * Counters of the turn-by-turn updates received from Nav SDK since turn-by-turn
+ * logging was last enabled. Android only.
+ */
+export interface TurnByTurnMetrics {
+  /** Whether the update counters are collected, as set by `collectMetrics`. */
+  enabled: boolean;
+  /** Configured number of upcoming steps, -1 for all remaining steps. */
+  numNextStepsToPreview: number;
+  /** Whether maneuver bitmaps are generated. */
+  includeManeuverBitmaps: boolean;
+  /** Configured minimum time between two events, in milliseconds. */
+  minUpdateIntervalMs: number;
+  /** Number of updates received from Nav SDK. */
+  messageCount: number;
+  /** Number of updates passed on. */
+  postedCount: number;
+  /** Number of updates dropped because of the update interval. */
+  skippedCount: number;
+  /** Size in bytes of the last update bundle. */
+  lastBundleBytes: number;
+  /** Size in bytes of the largest update bundle. */
+  maxBundleBytes: number;
+  /** Average size in bytes of the update bundles. */
+  averageBundleBytes: number;
+  /** Longest time an update waited before being handled, in milliseconds. */
+  maxQueueDelayMs: number;
+  /** Average time an update waited before being handled, in milliseconds. */
+  averageQueueDelayMs: number;
+  /** Longest time spent reading an update bundle, in milliseconds. */
+  maxDecodeMs: number;
+  /** Average time spent reading an update bundle, in milliseconds. */
+  averageDecodeMs: number;
+  /** Longest time spent handling an update, in milliseconds. */
+  maxHandlerMs: number;
+  /** Average time spent handling an update, in milliseconds. */
+  averageHandlerMs: number;
+}
+
+/**
+ * Counters of the native event queue. Android only.
+ */
+export interface EventQueueMetrics {
+  /** Number of events waiting to be delivered. */
+  depth: number;
+  /** Highest number of pending events seen. */
+  maxDepth: number;
+  /** Maximum number of pending events. */
+  capacity: number;
+  /** Number of events queued. */
+  enqueuedCount: number;
+  /** Number of events delivered to JS. */
+  dispatchedCount: number;
+  /** Number of events dropped because the queue was full. */
+  droppedCount: number;
+  /** Number of events replaced by a newer event of the same type because the queue was full. */
+  coalescedCount: number;
+}
+
 /**
  * Defines how application should behave when a application task is removed.
  */
@@ -15,29 +15,58 @@
  */
 
 import { NativeModules, Platform } from 'react-native';
-import { useModuleListeners, type LatLng } from '../../shared';
-import type {
-  Waypoint,
-  AudioGuidance,
-  RouteSegment,
-  TimeAndDistance,
+import {
+  encodePolyline,
+  flattenPoints,
+  useModuleListeners,
+  type LatLng,
+} from '../../shared';
+import {
+  PathEncoding,
+  type Waypoint,
+  type AudioGuidance,
+  type CompactPath,
+  type CompactRouteSegment,
+  type RouteSegment,
+  type TimeAndDistance,
+  type TraveledPathChunk,
+  type TraveledPathUpdatesOptions,
 } from '../types';
 import {
   type NavigationCallbacks,
   type TermsAndConditionsDialogOptions,
   type NavigationController,
+  type NavigationInitOptions,
   type RoutingOptions,
   type SpeedAlertOptions,
   type LocationSimulationOptions,
+  type LocationUpdateOptions,
   TaskRemovedBehavior,
   type DisplayOptions,
+  type EventQueueMetrics,
+  type EventQueueOptions,
+  type TurnByTurnMetrics,
+  type TurnByTurnOptions,
 } from './types';
 import { getRouteStatusFromStringValue } from '../navigationView';
+import {
+  createTurnByTurnDecoder,
+  isTurnByTurnDelta,
+} from './turnByTurnDecoder';
 import { useMemo } from 'react';
 
 const { NavModule, NavEventDispatcher } = NativeModules;
 const androidBridge: string = 'NavJavascriptBridge';
 
+const toCompactPath = (
+  points: LatLng[],
+  encoding: PathEncoding
+): CompactPath => {
+  return encoding === PathEncoding.FLAT
+    ? { flatPoints: flattenPoints(points), pointCount: points.length }
+    : { encodedPoints: encodePolyline(points), pointCount: points.length };
+};
+
 export const useNavigationController = (
   termsAndConditionsDialogOptions: TermsAndConditionsDialogOptions,
   taskRemovedBehavior: TaskRemovedBehavior = TaskRemovedBehavior.CONTINUE_SERVICE
@@ -47,6 +76,11 @@ export const useNavigationController = (
   removeListeners: (listeners: Partial<NavigationCallbacks>) => void;
   removeAllListeners: () => void;
 } => {
+  const decodeTurnByTurn = useMemo(
+    () => createTurnByTurnDecoder(() => NavModule.requestTurnByTurnKeyframe()),
+    []
+  );
+
   const eventTransformer = <K extends keyof NavigationCallbacks>(
     eventKey: K,
     ...args: unknown[]
@@ -54,6 +88,9 @@ export const useNavigationController = (
     if (eventKey === 'onRouteStatusResult' && typeof args[0] === 'string') {
       return [getRouteStatusFromStringValue(args[0])];
     }
+    if (eventKey === 'onTurnByTurn' && isTurnByTurnDelta(args[0])) {
+      return [decodeTurnByTurn(args[0])];
+    }
     return args;
   };
 
@@ -64,13 +101,16 @@ export const useNavigationController = (
       'onStartGuidance',
       'onArrival',
       'onLocationChanged',
+      'onLocationsChanged',
       'onNavigationReady',
       'onRouteStatusResult',
       'onRawLocationChanged',
+      'onRawLocationsChanged',
       'onRouteChanged',
       'onReroutingRequestedByOffRoute',
       'onTrafficUpdated',
       'onRemainingTimeOrDistanceChanged',
+      'onTraveledPathUpdated',
       'onNavigationInitError',
       'onTurnByTurn',
       'logDebugInfo',
@@ -80,7 +120,12 @@ export const useNavigationController = (
 
   const navigationController: NavigationController = useMemo(
     () => ({
-      init: async () => {
+      init: async (options?: NavigationInitOptions) => {
+        const mapStyleUrls = options?.mapStyleUrls;
+        if (Platform.OS === 'android' && mapStyleUrls?.length) {
+          // Not awaited, so the styles download while the navigator starts.
+          NavModule.prefetchMapStyles(mapStyleUrls);
+        }
         return await NavModule.initializeNavigator(
           termsAndConditionsDialogOptions,
           taskRemovedBehavior
@@ -150,8 +195,41 @@ export const useNavigationController = (
         }
       },
 
-      setTurnByTurnLoggingEnabled: (isEnabled: boolean) => {
-        NavModule.setTurnByTurnLoggingEnabled(isEnabled);
+      setEventQueueOptions: (options: EventQueueOptions) => {
+        if (Platform.OS === 'android') {
+          NavModule.setEventQueueOptions(options);
+        }
+      },
+
+      getEventQueueMetrics: async (): Promise<EventQueueMetrics | null> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.getEventQueueMetrics();
+        }
+        return null;
+      },
+
+      prefetchMapStyles: async (urls: string[]): Promise<void> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.prefetchMapStyles(urls);
+        }
+      },
+
+      getTurnByTurnMetrics: async (): Promise<TurnByTurnMetrics | null> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.getTurnByTurnMetrics();
+        }
+        return null;
+      },
+
+      setTurnByTurnLoggingEnabled: (
+        isEnabled: boolean,
+        options?: TurnByTurnOptions
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTurnByTurnLoggingEnabled(isEnabled, options ?? null);
+        } else {
+          NavModule.setTurnByTurnLoggingEnabled(isEnabled);
+        }
       },
 
       areTermsAccepted: async (): Promise<boolean> => {
@@ -166,6 +244,20 @@ export const useNavigationController = (
         return await NavModule.getRouteSegments();
       },
 
+      getCompactRouteSegments: async (
+        encoding: PathEncoding = PathEncoding.ENCODED
+      ): Promise<CompactRouteSegment[]> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.getCompactRouteSegments(encoding);
+        }
+        const segments: RouteSegment[] = await NavModule.getRouteSegments();
+        return segments.map(segment => ({
+          destinationLatLng: segment.destinationLatLng,
+          destinationWaypoint: segment.destinationWaypoint,
+          path: toCompactPath(segment.segmentLatLngList, encoding),
+        }));
+      },
+
       getCurrentTimeAndDistance: async (): Promise<TimeAndDistance> => {
         return await NavModule.getCurrentTimeAndDistance();
       },
@@ -174,6 +266,48 @@ export const useNavigationController = (
         return await NavModule.getTraveledPath();
       },
 
+      getCompactTraveledPath: async (
+        encoding: PathEncoding = PathEncoding.ENCODED
+      ): Promise<CompactPath> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.getCompactTraveledPath(encoding);
+        }
+        return toCompactPath(await NavModule.getTraveledPath(), encoding);
+      },
+
+      getTraveledPathSince: async (
+        index: number,
+        encoding: PathEncoding = PathEncoding.ENCODED,
+        pathId?: number
+      ): Promise<TraveledPathChunk> => {
+        if (Platform.OS === 'android') {
+          return await NavModule.getTraveledPathSince(
+            index,
+            encoding,
+            pathId ?? -1
+          );
+        }
+        const path: LatLng[] = await NavModule.getTraveledPath();
+        const reset = index > path.length;
+        const startIndex = reset ? 0 : Math.max(0, index);
+        return {
+          path: toCompactPath(path.slice(startIndex), encoding),
+          startIndex,
+          nextIndex: path.length,
+          reset,
+          pathId: 0,
+        };
+      },
+
+      setTraveledPathUpdatesEnabled: (
+        isEnabled: boolean,
+        options?: TraveledPathUpdatesOptions
+      ) => {
+        if (Platform.OS === 'android') {
+          NavModule.setTraveledPathUpdatesEnabled(isEnabled, options ?? null);
+        }
+      },
+
       getNavSDKVersion: async (): Promise<string> => {
         return await NavModule.getNavSDKVersion();
       },
@@ -182,8 +316,12 @@ export const useNavigationController = (
         NavModule.stopUpdatingLocation();
       },
 
-      startUpdatingLocation: () => {
-        NavModule.startUpdatingLocation();
+      startUpdatingLocation: (options?: LocationUpdateOptions) => {
+        if (Platform.OS === 'android') {
+          NavModule.startUpdatingLocation(options ?? null);
+        } else {
+          NavModule.startUpdatingLocation();
+        }
       },
 
       simulator: {
@@ -293,6 +293,92 @@ export interface RouteSegment {
   segmentLatLngList: LatLng[];
 }
 
+/**
+ * How coordinates are packed in compact route responses.
+ */
+export enum PathEncoding {
+  /** Google encoded polyline string with 5 decimal precision. */
+  ENCODED = 0,
+  /** Flat array of alternating latitudes and longitudes. */
+  FLAT,
+}
+
+/**
+ * A list of points packed according to a `PathEncoding`. Exactly one of
+ * `encodedPoints` and `flatPoints` is set, and either can be passed as is to
+ * `addPolyline`.
+ */
+export interface CompactPath {
+  /** The points as a Google encoded polyline string. */
+  encodedPoints?: string;
+  /** The points as an array of alternating latitudes and longitudes. */
+  flatPoints?: number[];
+  /** Number of points in the path. */
+  pointCount: number;
+}
+
+/**
+ * A chunk of the traveled path, returned by `getTraveledPathSince` and
+ * `onTraveledPathUpdated`. Consecutive `onTraveledPathUpdated` chunks are
+ * contiguous: if `startIndex` differs from the previous `nextIndex` and
+ * `reset` is false, call `getTraveledPathSince` with the previous `nextIndex`
+ * and `pathId` to fetch the missing points.
+ */
+export interface TraveledPathChunk {
+  /** The points from `startIndex` up to `nextIndex`. */
+  path: CompactPath;
+  /** Index in the traveled path of the first point in `path`. */
+  startIndex: number;
+  /** Index to request the next chunk from. */
+  nextIndex: number;
+  /** True if the traveled path restarted, in which case `path` holds the whole traveled path. */
+  reset: boolean;
+  /** Identifies the traveled path, which restarts whenever a new route is set. Android only, always 0 on iOS. */
+  pathId: number;
+}
+
+/**
+ * Defines how traveled path updates are delivered.
+ */
+export interface TraveledPathUpdatesOptions {
+  /** Minimum number of new points per update. Defaults to 1. */
+  batchSize?: number;
+  /** Distance in meters the vehicle has to travel between checks for new points. Defaults to 10. */
+  minDistanceMeters?: number;
+  /** How coordinates are packed. Defaults to `PathEncoding.ENCODED`. */
+  encoding?: PathEncoding;
+}
+
+/**
+ * Traffic data of a `CompactRouteSegment`, with one entry per road stretch
+ * at the same index of each array.
+ */
+export interface CompactNavigationTrafficData {
+  /** The possible status values of the NavigationTrafficData */
+  status: Status;
+  /** Offset of each road stretch from the start of the segment, in meters. */
+  offsetsMeters: number[];
+  /** Length of each road stretch, in meters. */
+  lengthsMeters: number[];
+  /** Rendering style of each road stretch. */
+  styles: Style[];
+}
+
+/**
+ * A `RouteSegment` with its coordinates and traffic data packed to reduce
+ * the size of the response.
+ */
+export interface CompactRouteSegment {
+  /** The final LatLng in this segment. */
+  destinationLatLng: LatLng;
+  /** The destination waypoint associated with this segment of the route. */
+  destinationWaypoint: Waypoint;
+  /** The traffic data associated with this segment of the route. */
+  navigationTrafficData?: CompactNavigationTrafficData;
+  /** The points of the route segment. */
+  path: CompactPath;
+}
+
 /**
  * Used to specify navigation destinations. It may be constructed from
  * a latitude/longitude pair, or a Google Place ID.
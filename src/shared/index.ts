@@ -17,3 +17,4 @@
 export * from './viewManager';
 export * from './types';
 export * from './useModuleListeners';
+export * from './polyline';
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2024 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+import type { LatLng } from './types';
+
+const PRECISION = 1e5;
+
+const encodeValue = (value: number): string => {
+  let shifted = value < 0 ? ~(value << 1) : value << 1;
+  let encoded = '';
+  while (shifted >= 0x20) {
+    encoded += String.fromCharCode((0x20 | (shifted & 0x1f)) + 63);
+    shifted >>= 5;
+  }
+  return encoded + String.fromCharCode(shifted + 63);
+};
+
+/**
+ * Encodes points as a Google encoded polyline string with 5 decimal
+ * precision.
+ */
+export const encodePolyline = (points: LatLng[]): string => {
+  let encoded = '';
+  let lastLat = 0;
+  let lastLng = 0;
+  points.forEach(point => {
+    const lat = Math.round(point.lat * PRECISION);
+    const lng = Math.round(point.lng * PRECISION);
+    encoded += encodeValue(lat - lastLat) + encodeValue(lng - lastLng);
+    lastLat = lat;
+    lastLng = lng;
+  });
+  return encoded;
+};
+
+/**
+ * Decodes a Google encoded polyline string with 5 decimal precision.
+ */
+export const decodePolyline = (encoded: string): LatLng[] => {
+  const points: LatLng[] = [];
+  let index = 0;
+  let lat = 0;
+  let lng = 0;
+  const decodeValue = (): number => {
+    let result = 0;
+    let shift = 0;
+    let b: number;
+    do {
+      b = encoded.charCodeAt(index++) - 63;
+      result |= (b & 0x1f) << shift;
+      shift += 5;
+    } while (b >= 0x20 && index < encoded.length);
+    return result & 1 ? ~(result >> 1) : result >> 1;
+  };
+  while (index < encoded.length) {
+    lat += decodeValue();
+    lng += decodeValue();
+    points.push({ lat: lat / PRECISION, lng: lng / PRECISION });
+  }
+  return points;
+};
+
+/**
+ * Flattens points into an array of alternating latitudes and longitudes.
+ */
+export const flattenPoints = (points: LatLng[]): number[] => {
+  const flat: number[] = new Array(points.length * 2);
+  points.forEach((point, i) => {
+    flat[i * 2] = point.lat;
+    flat[i * 2 + 1] = point.lng;
+  });
+  return flat;
+};
@@ -54,6 +54,36 @@ export const sendCommand = (
 export const commands =
   UIManager.getViewManagerConfig(viewManagerName).Commands;
 
+/**
+ * A view command and its arguments, as passed to `sendCommands`.
+ */
+export type ViewCommand = [command: number | undefined, args: any[]];
+
+/**
+ * Sends several commands to the view. On Android they are applied together
+ * in a single UI pass, and the whole batch is dropped if it holds a command
+ * that cannot be batched, such as creating or deleting the fragment.
+ * Elsewhere they are sent one by one.
+ */
+export const sendCommands = (viewId: number, viewCommands: ViewCommand[]) => {
+  if (Platform.OS !== 'android' || commands.executeCommands === undefined) {
+    viewCommands.forEach(([command, args]) =>
+      sendCommand(viewId, command, args)
+    );
+    return;
+  }
+
+  const batch = viewCommands.map(([command, args]) => {
+    if (command === undefined) {
+      throw new Error(
+        "Command not found, please make sure you're using the referencing the right method"
+      );
+    }
+    return [command, args];
+  });
+  sendCommand(viewId, commands.executeCommands, [batch]);
+};
+
 export interface NativeNavViewProps extends ViewProps {
   flex?: number | undefined;
   onMapReady?: DirectEventHandler<null>;